@@ -0,0 +1,37 @@
+package com.back2261.applicationservice;
+
+import com.back2261.applicationservice.infrastructure.entity.Gamer;
+import java.util.HashSet;
+
+/** Builds the gamers the integration tests persist. */
+public final class GamerFixtures {
+
+    private GamerFixtures() {}
+
+    /**
+     * A gamer that can be persisted as is: the id doubles as username, the email is {@code <userId>@test.com}, it has
+     * no coins and every association is an empty set. Tests set what they need on top of that.
+     */
+    public static Gamer newGamer(String userId) {
+        Gamer gamer = new Gamer();
+        gamer.setUserId(userId);
+        gamer.setGamerUsername(userId);
+        gamer.setEmail(userId + "@test.com");
+        gamer.setAge(20);
+        gamer.setCountry("TR");
+        gamer.setPwd("test");
+        gamer.setGender("E");
+        gamer.setCoin(0);
+        gamer.setIsBlocked(false);
+        gamer.setLikedgames(new HashSet<>());
+        gamer.setKeywords(new HashSet<>());
+        gamer.setFriends(new HashSet<>());
+        gamer.setWaitingFriends(new HashSet<>());
+        gamer.setBlockedFriends(new HashSet<>());
+        gamer.setGamerEarnedAchievements(new HashSet<>());
+        gamer.setGamerCollectedAchievements(new HashSet<>());
+        gamer.setBoughtAvatars(new HashSet<>());
+        gamer.setJoinedCommunities(new HashSet<>());
+        return gamer;
+    }
+}
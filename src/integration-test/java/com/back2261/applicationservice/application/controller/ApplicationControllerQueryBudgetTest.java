@@ -0,0 +1,296 @@
+package com.back2261.applicationservice.application.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.GamerFixtures;
+import com.back2261.applicationservice.config.GamerCollectionCache;
+import com.back2261.applicationservice.config.QueryBudget;
+import com.back2261.applicationservice.config.QueryBudgetAspect;
+import com.back2261.applicationservice.config.QueryCountingConfig;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.domain.service.*;
+import com.back2261.applicationservice.infrastructure.entity.*;
+import com.back2261.applicationservice.infrastructure.repository.*;
+import com.back2261.applicationservice.interfaces.request.BulkFriendRequest;
+import com.back2261.applicationservice.interfaces.request.FriendOperationRequest;
+import com.back2261.applicationservice.interfaces.request.FriendRequest;
+import com.back2261.applicationservice.interfaces.response.FriendsResponse;
+import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.*;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Calls the controller handlers against a gamer with many relations, so a handler that goes over its
+ * {@link QueryBudget} fails the build ({@code query-budget.mode} is {@code fail} in the {@code it} profile). The
+ * handlers run without a surrounding test transaction so their inserts and deletes are flushed and counted, and
+ * without an entity manager bound to the thread, as open-in-view is disabled.
+ */
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration({AopAutoConfiguration.class, JacksonAutoConfiguration.class})
+@Import({
+    ApplicationController.class,
+    SerializedResponseCache.class,
+    QueryBudgetAspect.class,
+    QueryCountingConfig.class,
+    SimpleMeterRegistry.class,
+    DefaultApplicationService.class,
+    AvatarCatalog.class,
+    BatchInsertRepository.class,
+    GamerCollectionCache.class,
+    FriendGraph.class,
+    BuddySuggestionIndex.class,
+    SectionLoader.class,
+    NotificationOutbox.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationControllerQueryBudgetTest {
+
+    private static final String USER_ID = "budget";
+    private static final int RELATION_COUNT = 20;
+
+    @Autowired
+    private ApplicationController applicationController;
+
+    @Autowired
+    private QueryBudgetAspect queryBudgetAspect;
+
+    @Autowired
+    private AvatarCatalog avatarCatalog;
+
+    @Autowired
+    private BuddySuggestionIndex buddySuggestionIndex;
+
+    @Autowired
+    private FriendGraph friendGraph;
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private GamesRepository gamesRepository;
+
+    @Autowired
+    private AvatarsRepository avatarsRepository;
+
+    @Autowired
+    private AchievementsRepository achievementsRepository;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private WaitingFriendRepository waitingFriendRepository;
+
+    @Autowired
+    private BlockedFriendRepository blockedFriendRepository;
+
+    @Autowired
+    private BoughtAvatarRepository boughtAvatarRepository;
+
+    @Autowired
+    private CollectedAchievementRepository collectedAchievementRepository;
+
+    @Autowired
+    private OutboxNotificationRepository outboxNotificationRepository;
+
+    @MockBean
+    private KeywordCatalog keywordCatalog;
+
+    @MockBean
+    private GamesCatalog gamesCatalog;
+
+    @MockBean
+    private JwtService jwtService;
+
+    private final GamerPrincipal principal = principal(USER_ID);
+    private Games game;
+    private Avatars avatar;
+    private Achievements achievement;
+
+    @BeforeEach
+    void setUp() {
+        game = gamesRepository.save(
+                new Games(UUID.randomUUID().toString(), "game", "icon", "category", 7.5F, "description", false, null));
+        avatar = avatarsRepository.save(new Avatars(UUID.randomUUID(), "avatar", true, 10));
+        achievement = achievementsRepository.save(new Achievements(UUID.randomUUID(), "achievement", 5, "description"));
+
+        Gamer gamer = newGamer(USER_ID);
+        gamer.setLikedgames(new HashSet<>(Set.of(game)));
+        gamer.setGamerEarnedAchievements(new HashSet<>(Set.of(achievement)));
+        gamerRepository.save(gamer);
+        for (int i = 0; i < RELATION_COUNT; i++) {
+            String friendId = USER_ID + "-friend-" + i;
+            String requesterId = USER_ID + "-requester-" + i;
+            String blockedId = USER_ID + "-blocked-" + i;
+            gamerRepository.saveAll(List.of(newGamer(friendId), newGamer(requesterId), newGamer(blockedId)));
+            friendRepository.saveAll(List.of(new Friend(USER_ID, friendId), new Friend(friendId, USER_ID)));
+            waitingFriendRepository.save(new WaitingFriend(USER_ID, requesterId));
+            blockedFriendRepository.save(new BlockedFriend(USER_ID, blockedId));
+        }
+        // The first two friends are also friends with each other, so they have a mutual friend to load.
+        friendRepository.saveAll(List.of(
+                new Friend(USER_ID + "-friend-0", USER_ID + "-friend-1"),
+                new Friend(USER_ID + "-friend-1", USER_ID + "-friend-0")));
+        // The stranger likes the same game, so buddy suggestions have a candidate to look up.
+        Gamer stranger = newGamer("stranger");
+        stranger.setLikedgames(new HashSet<>(Set.of(game)));
+        gamerRepository.save(stranger);
+        avatarCatalog.refresh();
+        buddySuggestionIndex.refresh();
+        friendGraph.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        friendRepository.deleteAllInBatch();
+        waitingFriendRepository.deleteAllInBatch();
+        blockedFriendRepository.deleteAllInBatch();
+        boughtAvatarRepository.deleteAllInBatch();
+        collectedAchievementRepository.deleteAllInBatch();
+        outboxNotificationRepository.deleteAllInBatch();
+        gamerRepository.deleteAll();
+        gamesRepository.deleteAllInBatch();
+        achievementsRepository.deleteAllInBatch();
+        avatarsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testReadHandlers_whenGamerHasManyRelations_StayWithinQueryBudget() {
+        assertEquals(
+                HttpStatus.OK, applicationController.getUserInfo(USER_ID, null).getStatusCode());
+        assertEquals(
+                HttpStatus.OK,
+                applicationController.getUserInfo(USER_ID, List.of("username")).getStatusCode());
+        assertEquals(RELATION_COUNT, friends(() -> applicationController.getFriends(principal, null, 50)));
+        assertEquals(RELATION_COUNT, friends(() -> applicationController.getWaitingFriends(principal, null, 50)));
+        assertEquals(RELATION_COUNT, friends(() -> applicationController.getBlockedFriends(principal, null, 50)));
+        assertEquals(1, friends(() -> applicationController.getMutualFriends(principal, USER_ID + "-friend-0")));
+        assertEquals(
+                "stranger",
+                applicationController
+                        .getBuddySuggestions(principal, 20)
+                        .getBody()
+                        .getBody()
+                        .getData()
+                        .getSuggestions()
+                        .get(0)
+                        .getUserId());
+        applicationController.getGame(game.getGameId());
+        applicationController.getAvatars(principal);
+        applicationController.getAchievements(principal);
+        applicationController.getMarketplace(null);
+    }
+
+    @Test
+    void testGetBuddySuggestions_whenBlockedOnAnotherInstance_ExcludeBlockerBeforeGraphReload() {
+        // Written straight to the table, as another instance would, so this instance's graph never hears of it.
+        blockedFriendRepository.save(new BlockedFriend("stranger", USER_ID));
+
+        assertTrue(applicationController
+                .getBuddySuggestions(principal, 20)
+                .getBody()
+                .getBody()
+                .getData()
+                .getSuggestions()
+                .isEmpty());
+    }
+
+    @Test
+    void testFriendHandlers_whenRequestsSentAndAnswered_StayWithinQueryBudget() {
+        applicationController.sendFriendRequest(principal, friendRequest("stranger"));
+        applicationController.addFriend(principal("stranger"), friendRequest(USER_ID));
+        applicationController.removeFriend(principal, friendRequest("stranger"));
+        applicationController.rejectFriend(principal, friendRequest(USER_ID + "-requester-0"));
+        applicationController.blockFriend(principal, friendRequest(USER_ID + "-friend-0"));
+        applicationController.unblockFriend(principal, friendRequest(USER_ID + "-blocked-0"));
+
+        List<FriendOperationRequest> operations = new ArrayList<>();
+        for (int i = 1; i < RELATION_COUNT; i++) {
+            FriendOperationRequest operation = new FriendOperationRequest();
+            operation.setUserId(USER_ID + "-requester-" + i);
+            operation.setAction(
+                    i % 2 == 0 ? FriendOperationRequest.Action.ACCEPT : FriendOperationRequest.Action.BLOCK);
+            operations.add(operation);
+        }
+        BulkFriendRequest bulkFriendRequest = new BulkFriendRequest();
+        bulkFriendRequest.setOperations(operations);
+        applicationController.applyFriendOperations(principal, bulkFriendRequest);
+
+        assertEquals(0, friends(() -> applicationController.getWaitingFriends(principal, null, 50)));
+    }
+
+    @Test
+    void testWalletHandlers_whenItemBoughtAndAchievementCollected_StayWithinQueryBudget() {
+        applicationController.buyItem(principal, avatar.getId().toString());
+        applicationController.collectAchievement(principal, achievement.getId().toString());
+
+        assertEquals(1, boughtAvatarRepository.count());
+        assertEquals(1, collectedAchievementRepository.count());
+    }
+
+    @Test
+    void testQueryBudget_whenHandlerExceedsBudget_ThrowInFailMode() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TwoQueryHandler(gamerRepository));
+        proxyFactory.addAspect(queryBudgetAspect);
+        TwoQueryHandler handler = proxyFactory.getProxy();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, handler::lookUpTwice);
+        assertEquals("lookUpTwice executed 2 statements, over its budget of 1", exception.getMessage());
+    }
+
+    static class TwoQueryHandler {
+
+        private final GamerRepository gamerRepository;
+
+        TwoQueryHandler(GamerRepository gamerRepository) {
+            this.gamerRepository = gamerRepository;
+        }
+
+        @QueryBudget(1)
+        public void lookUpTwice() {
+            gamerRepository.findById(USER_ID);
+            gamerRepository.findById("stranger");
+        }
+    }
+
+    private int friends(Supplier<ResponseEntity<FriendsResponse>> handler) {
+        return handler.get().getBody().getBody().getData().getFriends().size();
+    }
+
+    private FriendRequest friendRequest(String userId) {
+        FriendRequest request = new FriendRequest();
+        request.setUserId(userId);
+        return request;
+    }
+
+    private static GamerPrincipal principal(String userId) {
+        return new GamerPrincipal(userId, userId + "@test.com", false);
+    }
+
+    private Gamer newGamer(String userId) {
+        Gamer gamer = GamerFixtures.newGamer(userId);
+        gamer.setCoin(100);
+        gamer.setFcmToken("fcm-" + userId);
+        return gamer;
+    }
+}
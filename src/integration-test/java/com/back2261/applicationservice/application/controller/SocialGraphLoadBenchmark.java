@@ -0,0 +1,350 @@
+package com.back2261.applicationservice.application.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.application.controller.SocialGraphSeeder.PowerLaw;
+import com.back2261.applicationservice.domain.service.*;
+import com.back2261.applicationservice.infrastructure.repository.AchievementsRepository;
+import com.back2261.applicationservice.infrastructure.repository.AvatarsRepository;
+import com.back2261.applicationservice.infrastructure.repository.GamesRepository;
+import com.back2261.applicationservice.infrastructure.repository.KeywordsRepository;
+import com.sun.net.httpserver.HttpServer;
+import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Load test of the whole service against a synthetic social graph. {@link SocialGraphSeeder} seeds
+ * {@code benchmark.seed.gamers} gamers into the H2 database of the {@code it} profile, then {@code
+ * benchmark.load.concurrency} clients send {@code benchmark.load.requests} requests picked from the
+ * {@code benchmark.load.mix} of endpoints (for example {@code userInfo:40,friends:30,sendFriend:30}). The acting gamers
+ * are Zipf distributed, so the hubs of the graph are also the busiest users. The notification service is a local HTTP
+ * stub and the bearer token is the gamer's email, so only this service is measured. Throughput and latency
+ * percentiles per endpoint are printed to the console. Runs with {@code ./gradlew benchmark}; with {@code
+ * benchmark.load.virtual-threads=true} the service runs in the virtual thread mode of {@link
+ * com.back2261.applicationservice.config.VirtualThreadConfig}, which needs a Java 21 runtime.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "query-budget.mode=log",
+            "spring.jpa.properties.hibernate.generate_statistics=false",
+            "logging.level.com.back2261=WARN"
+        })
+@ActiveProfiles("it")
+class SocialGraphLoadBenchmark {
+
+    private static final int GAMERS = Integer.getInteger("benchmark.seed.gamers", 100_000);
+    private static final double FRIEND_EXPONENT =
+            Double.parseDouble(System.getProperty("benchmark.seed.exponent", "2.2"));
+    private static final int MAX_FRIENDS = Integer.getInteger("benchmark.seed.max-friends", 5000);
+    private static final long RANDOM_SEED = Long.getLong("benchmark.seed.random", 42);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.load.concurrency", 32);
+    private static final int REQUESTS = Integer.getInteger("benchmark.load.requests", 20_000);
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("benchmark.load.virtual-threads");
+    private static final String MIX = System.getProperty(
+            "benchmark.load.mix",
+            "userInfo:25,friends:20,mutualFriends:10,waitingFriends:5,blockedFriends:5,suggestions:5,"
+                    + "achievements:5,avatars:5,games:5,keywords:5,searchGames:5,marketplace:3,sendFriend:2");
+
+    private static final HttpServer NOTIFICATION_SERVICE = startNotificationService();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GamesRepository gamesRepository;
+
+    @Autowired
+    private KeywordsRepository keywordsRepository;
+
+    @Autowired
+    private AchievementsRepository achievementsRepository;
+
+    @Autowired
+    private AvatarsRepository avatarsRepository;
+
+    @Autowired
+    private GamesCatalog gamesCatalog;
+
+    @Autowired
+    private KeywordCatalog keywordCatalog;
+
+    @Autowired
+    private AvatarCatalog avatarCatalog;
+
+    @Autowired
+    private BuddySuggestionIndex buddySuggestionIndex;
+
+    @Autowired
+    private FriendGraph friendGraph;
+
+    private record Sample(String endpoint, long nanos, int status) {}
+
+    /** An endpoint of the mix; {@code other} is a random gamer for the endpoints that take a second one. */
+    private enum Endpoint {
+        USER_INFO("userInfo", (gamer, other) -> "/application/get/user/info/" + SocialGraphSeeder.userId(gamer)),
+        FRIENDS("friends", (gamer, other) -> "/application/get/friends"),
+        MUTUAL_FRIENDS(
+                "mutualFriends",
+                (gamer, other) -> "/application/get/mutual/friends/" + SocialGraphSeeder.userId(other)),
+        WAITING_FRIENDS("waitingFriends", (gamer, other) -> "/application/get/requests/friends"),
+        BLOCKED_FRIENDS("blockedFriends", (gamer, other) -> "/application/get/blocked/friends"),
+        SUGGESTIONS("suggestions", (gamer, other) -> "/application/get/buddy/suggestions"),
+        ACHIEVEMENTS("achievements", (gamer, other) -> "/application/get/achievements"),
+        AVATARS("avatars", (gamer, other) -> "/application/get/avatars"),
+        GAMES("games", (gamer, other) -> "/application/get/games"),
+        KEYWORDS("keywords", (gamer, other) -> "/application/get/keywords"),
+        SEARCH_GAMES("searchGames", (gamer, other) -> "/application/search/games?query=game+" + other % 500),
+        MARKETPLACE("marketplace", (gamer, other) -> "/application/get/marketplace"),
+        SEND_FRIEND(
+                "sendFriend",
+                (gamer, other) -> "/application/send/friend",
+                (gamer, other) -> "{\"userId\":\"" + SocialGraphSeeder.userId(other) + "\"}");
+
+        private final String name;
+        private final BiFunction<Integer, Integer, String> path;
+        private final BiFunction<Integer, Integer, String> body;
+
+        Endpoint(String name, BiFunction<Integer, Integer, String> path) {
+            this(name, path, null);
+        }
+
+        Endpoint(String name, BiFunction<Integer, Integer, String> path, BiFunction<Integer, Integer, String> body) {
+            this.name = name;
+            this.path = path;
+            this.body = body;
+        }
+
+        static Endpoint named(String name) {
+            return Arrays.stream(values())
+                    .filter(endpoint -> endpoint.name.equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in benchmark.load.mix: " + name));
+        }
+
+        HttpRequest.Builder request(String baseUrl, int gamer, int other) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path.apply(gamer, other)));
+            if (body == null) {
+                return builder.GET();
+            }
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.apply(gamer, other)));
+        }
+    }
+
+    @TestConfiguration
+    static class LoadTestConfig {
+
+        /** Accepts the gamer's email as the bearer token, so requests do not pay for signing and verifying JWTs. */
+        @Bean
+        @Primary
+        JwtService emailTokenJwtService() {
+            return new JwtService() {
+                @Override
+                public String extractUsername(String token) {
+                    return token;
+                }
+
+                @Override
+                public Boolean validateToken(String token, UserDetails userDetails) {
+                    return token.equals(userDetails.getUsername());
+                }
+            };
+        }
+    }
+
+    @DynamicPropertySource
+    static void benchmarkProperties(DynamicPropertyRegistry registry) {
+        registry.add(
+                "notification-service.url",
+                () -> "http://localhost:" + NOTIFICATION_SERVICE.getAddress().getPort());
+        registry.add("execution.virtual-threads.enabled", () -> VIRTUAL_THREADS);
+    }
+
+    @AfterAll
+    static void stopNotificationService() {
+        NOTIFICATION_SERVICE.stop(0);
+    }
+
+    @Test
+    void driveEndpointsAgainstSyntheticSocialGraph() throws Exception {
+        Random random = new Random(RANDOM_SEED);
+        long seedStart = System.nanoTime();
+        SocialGraphSeeder.Graph graph = new SocialGraphSeeder(
+                        jdbcTemplate,
+                        gamesRepository,
+                        keywordsRepository,
+                        achievementsRepository,
+                        avatarsRepository,
+                        random)
+                .seed(GAMERS, FRIEND_EXPONENT, MAX_FRIENDS);
+        // The in-memory indexes were built from the empty database when the application started.
+        gamesCatalog.refresh();
+        keywordCatalog.refresh();
+        avatarCatalog.refresh();
+        buddySuggestionIndex.refresh();
+        friendGraph.load();
+        System.out.printf(
+                "%nseeded %d gamers, %d friendships, %d pending requests, %d blocks in %.1fs%n",
+                graph.gamers(),
+                graph.friendships(),
+                graph.waitingRequests(),
+                graph.blocks(),
+                (System.nanoTime() - seedStart) / 1e9);
+
+        List<Endpoint> mix = parseMix(MIX);
+        HttpClient client =
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        // Warm up connections, caches and JIT before measuring.
+        load(client, mix, random, Math.min(REQUESTS, CONCURRENCY * 50));
+        long start = System.nanoTime();
+        Sample[] samples = load(client, mix, random, REQUESTS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        report(samples, seconds);
+        assertEquals(
+                0,
+                Arrays.stream(samples).filter(sample -> sample.status() >= 500).count(),
+                "server errors");
+    }
+
+    private Sample[] load(HttpClient client, List<Endpoint> mix, Random random, int requests)
+            throws InterruptedException {
+        PowerLaw actingGamer = new PowerLaw(1.0, GAMERS);
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        Sample[] samples = new Sample[requests];
+        AtomicInteger ioErrors = new AtomicInteger();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[requests];
+        for (int i = 0; i < requests; i++) {
+            Endpoint endpoint = mix.get(random.nextInt(mix.size()));
+            int gamer = actingGamer.sample(random) - 1;
+            HttpRequest request = endpoint.request("http://localhost:" + port, gamer, random.nextInt(GAMERS))
+                    .header("Authorization", "Bearer " + SocialGraphSeeder.email(gamer))
+                    .timeout(Duration.ofMinutes(1))
+                    .build();
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            ioErrors.incrementAndGet();
+                        }
+                        samples[index] = new Sample(
+                                endpoint.name, System.nanoTime() - sent, error == null ? response.statusCode() : 599);
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(responses).exceptionally(error -> null).join();
+        assertEquals(0, ioErrors.get(), "requests without a response");
+        return samples;
+    }
+
+    private static void report(Sample[] samples, double seconds) {
+        Map<String, List<Sample>> byEndpoint = new TreeMap<>();
+        for (Sample sample : samples) {
+            byEndpoint
+                    .computeIfAbsent(sample.endpoint(), name -> new ArrayList<>())
+                    .add(sample);
+        }
+        byEndpoint.put("all", Arrays.asList(samples));
+
+        System.out.printf(
+                "%n%s concurrency=%d requests=%d throughput=%.0f req/s%n%-16s %8s %8s %9s %9s %9s %9s%n",
+                VIRTUAL_THREADS ? "virtual threads" : "platform threads",
+                CONCURRENCY,
+                samples.length,
+                samples.length / seconds,
+                "endpoint",
+                "count",
+                "non-2xx",
+                "p50 ms",
+                "p95 ms",
+                "p99 ms",
+                "max ms");
+        byEndpoint.forEach((endpoint, endpointSamples) -> {
+            long[] latencies =
+                    endpointSamples.stream().mapToLong(Sample::nanos).sorted().toArray();
+            long rejected = endpointSamples.stream()
+                    .filter(sample -> sample.status() / 100 != 2)
+                    .count();
+            System.out.printf(
+                    "%-16s %8d %8d %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint,
+                    latencies.length,
+                    rejected,
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.95),
+                    percentile(latencies, 0.99),
+                    latencies[latencies.length - 1] / 1e6);
+        });
+    }
+
+    /** Expands {@code name:weight,...} into a list that holds every endpoint as many times as its weight. */
+    private static List<Endpoint> parseMix(String mix) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Endpoint endpoint = Endpoint.named(parts[0]);
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+            endpoints.addAll(Collections.nCopies(weight, endpoint));
+        }
+        return endpoints;
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+
+    /** Answers every notification with 200, the way the notification service acknowledges a delivered message. */
+    private static HttpServer startNotificationService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                byte[] body = "{\"body\":{\"code\":100}}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start the notification service stub", e);
+        }
+    }
+}
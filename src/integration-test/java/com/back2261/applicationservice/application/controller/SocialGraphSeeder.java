@@ -0,0 +1,246 @@
+package com.back2261.applicationservice.application.controller;
+
+import com.back2261.applicationservice.infrastructure.entity.Achievements;
+import com.back2261.applicationservice.infrastructure.entity.Avatars;
+import com.back2261.applicationservice.infrastructure.entity.Games;
+import com.back2261.applicationservice.infrastructure.entity.Keywords;
+import com.back2261.applicationservice.infrastructure.repository.AchievementsRepository;
+import com.back2261.applicationservice.infrastructure.repository.AvatarsRepository;
+import com.back2261.applicationservice.infrastructure.repository.GamesRepository;
+import com.back2261.applicationservice.infrastructure.repository.KeywordsRepository;
+import java.util.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds a synthetic social graph for load tests. Gamers join one after another and befriend earlier gamers with a
+ * Zipf preference for the earliest ones, so friend counts follow a power law with a few very large hubs, as in a
+ * preferential attachment network. Pending requests, blocks, keywords, liked games and earned achievements per gamer
+ * are power law distributed too, and the popular catalog entries are picked most often. Gamers are named
+ * {@code gamer-<n>}, with {@code n = 0} the biggest hub. Rows are written with JDBC batches because going through
+ * the entity manager would make seeding millions of gamers take longer than the load test itself.
+ */
+class SocialGraphSeeder {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int GAMES = 500;
+    private static final int KEYWORDS = 100;
+    private static final int ACHIEVEMENTS = 50;
+    private static final int AVATARS = 40;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GamesRepository gamesRepository;
+    private final KeywordsRepository keywordsRepository;
+    private final AchievementsRepository achievementsRepository;
+    private final AvatarsRepository avatarsRepository;
+    private final Random random;
+
+    SocialGraphSeeder(
+            JdbcTemplate jdbcTemplate,
+            GamesRepository gamesRepository,
+            KeywordsRepository keywordsRepository,
+            AchievementsRepository achievementsRepository,
+            AvatarsRepository avatarsRepository,
+            Random random) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.gamesRepository = gamesRepository;
+        this.keywordsRepository = keywordsRepository;
+        this.achievementsRepository = achievementsRepository;
+        this.avatarsRepository = avatarsRepository;
+        this.random = random;
+    }
+
+    record Graph(int gamers, long friendships, long waitingRequests, long blocks, List<String> gameNames) {}
+
+    static String userId(int gamer) {
+        return "gamer-" + gamer;
+    }
+
+    static String email(int gamer) {
+        return userId(gamer) + "@load.test";
+    }
+
+    /**
+     * Seeds {@code gamers} gamers whose friend count is drawn from a power law with the given {@code exponent}, capped
+     * at {@code maxFriends}. An exponent between 2 and 3 matches what is observed in social networks.
+     */
+    Graph seed(int gamers, double exponent, int maxFriends) {
+        List<String> games = seedGames();
+        List<String> keywords = seedKeywords();
+        List<String> achievements = seedAchievements();
+        seedAvatars();
+
+        PowerLaw friendCount = new PowerLaw(exponent, maxFriends + 1);
+        PowerLaw waitingCount = new PowerLaw(exponent + 0.5, 100);
+        PowerLaw blockedCount = new PowerLaw(exponent + 1, 50);
+        PowerLaw keywordCount = new PowerLaw(2.0, 20);
+        PowerLaw gameCount = new PowerLaw(1.8, 50);
+        PowerLaw achievementCount = new PowerLaw(2.0, ACHIEVEMENTS);
+        PowerLaw gameRank = new PowerLaw(1.1, GAMES);
+        PowerLaw keywordRank = new PowerLaw(1.1, KEYWORDS);
+        PowerLaw achievementRank = new PowerLaw(0.8, ACHIEVEMENTS);
+
+        Batch gamerRows = new Batch("insert into schauth.gamer (user_id, username, email, age, country, pwd, gender, "
+                + "is_blocked, fcm_token, coin) values (?, ?, ?, ?, ?, ?, ?, false, ?, ?)");
+        Batch friendRows = new Batch("insert into schappl.friends (user_id, friend_id) values (?, ?)");
+        Batch waitingRows = new Batch("insert into schappl.waiting_friends (user_id, requested_id) values (?, ?)");
+        Batch blockedRows = new Batch("insert into schappl.blocked_friends (gamer_id, blocked_user_id) values (?, ?)");
+        Batch keywordRows = new Batch("insert into schauth.gamer_keywords_join (gamer_id, keyword_id) values (?, ?)");
+        Batch gameRows = new Batch("insert into schauth.gamer_games_join (gamer_id, game_id) values (?, ?)");
+        Batch achievementRows =
+                new Batch("insert into schappl.gamer_earned_achievements (gamer_id, achievement_id) values (?, ?)");
+
+        String[] countries = {"TR", "DE", "US", "GB", "FR", "NL", "BR", "JP"};
+        for (int gamer = 0; gamer < gamers; gamer++) {
+            String userId = userId(gamer);
+            gamerRows.add(
+                    userId,
+                    userId,
+                    email(gamer),
+                    16 + random.nextInt(30),
+                    countries[random.nextInt(countries.length)],
+                    "load-test",
+                    random.nextBoolean() ? "E" : "K",
+                    random.nextInt(4) == 0 ? null : "fcm-" + userId,
+                    random.nextInt(1000));
+        }
+        // Every gamer exists before the join rows referencing them are written.
+        gamerRows.flush();
+
+        for (int gamer = 0; gamer < gamers; gamer++) {
+            String userId = userId(gamer);
+            // Friends are earlier gamers, so every pair is drawn once and written in both directions.
+            for (int friend : distinct(Math.min(friendCount.sample(random) - 1, gamer), new PowerLaw(1.0, gamer))) {
+                friendRows.add(userId, userId(friend - 1));
+                friendRows.add(userId(friend - 1), userId);
+            }
+            // Requests and blocks are drawn uniformly from the gamers that joined later.
+            int later = gamers - gamer - 1;
+            for (int requester : distinct(Math.min(waitingCount.sample(random) - 1, later), uniform(later))) {
+                waitingRows.add(userId, userId(gamer + requester));
+            }
+            for (int blocked : distinct(Math.min(blockedCount.sample(random) - 1, later), uniform(later))) {
+                blockedRows.add(userId, userId(gamer + blocked));
+            }
+            for (int keyword : distinct(keywordCount.sample(random), keywordRank)) {
+                keywordRows.add(userId, UUID.fromString(keywords.get(keyword - 1)));
+            }
+            for (int game : distinct(gameCount.sample(random), gameRank)) {
+                gameRows.add(userId, games.get(game - 1));
+            }
+            for (int achievement : distinct(achievementCount.sample(random) - 1, achievementRank)) {
+                achievementRows.add(userId, UUID.fromString(achievements.get(achievement - 1)));
+            }
+        }
+        for (Batch batch : List.of(friendRows, waitingRows, blockedRows, keywordRows, gameRows, achievementRows)) {
+            batch.flush();
+        }
+        List<String> gameNames =
+                gamesRepository.findAll().stream().map(Games::getGameName).toList();
+        return new Graph(gamers, friendRows.count / 2, waitingRows.count, blockedRows.count, gameNames);
+    }
+
+    private List<String> seedGames() {
+        String[] categories = {"Action", "Adventure", "Strategy", "Sports", "Puzzle", "Shooter", "Racing", "RPG"};
+        List<Games> games = new ArrayList<>(GAMES);
+        for (int i = 0; i < GAMES; i++) {
+            String category = categories[i % categories.length];
+            games.add(new Games(
+                    "game-" + i,
+                    category + " Game " + i,
+                    "icon-" + i,
+                    category,
+                    1 + random.nextFloat() * 9,
+                    "Load test game " + i,
+                    i < 20,
+                    null));
+        }
+        return gamesRepository.saveAll(games).stream().map(Games::getGameId).toList();
+    }
+
+    private List<String> seedKeywords() {
+        List<Keywords> keywords = new ArrayList<>(KEYWORDS);
+        for (int i = 0; i < KEYWORDS; i++) {
+            keywords.add(new Keywords(UUID.randomUUID(), "keyword-" + i, new Date(), "Load test keyword " + i, null));
+        }
+        return keywordsRepository.saveAll(keywords).stream()
+                .map(keyword -> keyword.getId().toString())
+                .toList();
+    }
+
+    private List<String> seedAchievements() {
+        List<Achievements> achievements = new ArrayList<>(ACHIEVEMENTS);
+        for (int i = 0; i < ACHIEVEMENTS; i++) {
+            achievements.add(new Achievements(UUID.randomUUID(), "achievement-" + i, 5 + i, "Load test achievement"));
+        }
+        return achievementsRepository.saveAll(achievements).stream()
+                .map(achievement -> achievement.getId().toString())
+                .toList();
+    }
+
+    private void seedAvatars() {
+        List<Avatars> avatars = new ArrayList<>(AVATARS);
+        for (int i = 0; i < AVATARS; i++) {
+            avatars.add(new Avatars(UUID.randomUUID(), "avatar-" + i, i % 2 == 0, i % 2 == 0 ? 50 + i : 0));
+        }
+        avatarsRepository.saveAll(avatars);
+    }
+
+    /** Draws {@code count} distinct values, or fewer when the distribution runs out of them. */
+    private Set<Integer> distinct(int count, PowerLaw distribution) {
+        int wanted = Math.min(count, distribution.max());
+        Set<Integer> values = new HashSet<>(Math.max(wanted * 2, 4));
+        for (int attempts = 0; values.size() < wanted && attempts < wanted * 10; attempts++) {
+            values.add(distribution.sample(random));
+        }
+        return values;
+    }
+
+    private static PowerLaw uniform(int max) {
+        return new PowerLaw(0, max);
+    }
+
+    /**
+     * Integers in {@code [1, max]} with {@code P(k)} proportional to {@code k^-exponent}, drawn by inverting the
+     * continuous distribution's CDF. An exponent of 0 is the uniform distribution.
+     */
+    record PowerLaw(double exponent, int max) {
+
+        int sample(Random random) {
+            if (max <= 1) {
+                return max;
+            }
+            double u = random.nextDouble();
+            double value = exponent == 1.0
+                    ? Math.pow(max + 1.0, u)
+                    : Math.pow(1 + u * (Math.pow(max + 1.0, 1 - exponent) - 1), 1 / (1 - exponent));
+            return (int) Math.max(1, Math.min(max, Math.floor(value)));
+        }
+    }
+
+    /** Buffers rows of one insert statement and writes them in JDBC batches. */
+    private final class Batch {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        private long count;
+
+        private Batch(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            count++;
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.back2261.applicationservice.config;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+/**
+ * Requests the actuator endpoints through the application's security filter chain without a bearer token. The full
+ * context runs the schedulers, so it gets its own database instead of draining the outbox of the other tests.
+ */
+@SpringBootTest(
+        properties =
+                "spring.datasource.url=jdbc:h2:mem:actuator;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=VALUE;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testHealth_whenUnauthenticated_ReturnHealth() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void testMetrics_whenUnauthenticated_Deny() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/metrics")).andExpect(status().isForbidden());
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/metrics/http.server.requests"))
+                .andExpect(status().isForbidden());
+    }
+}
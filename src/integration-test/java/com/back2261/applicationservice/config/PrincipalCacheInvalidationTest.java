@@ -0,0 +1,75 @@
+package com.back2261.applicationservice.config;
+
+import static com.back2261.applicationservice.GamerFixtures.newGamer;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.infrastructure.entity.Gamer;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PrincipalCache.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PrincipalCacheInvalidationTest {
+
+    private static final String EMAIL = "principal@test.com";
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        gamerRepository.save(newGamer("principal"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gamerRepository.deleteById("principal");
+    }
+
+    @Test
+    void testGet_whenPrincipalCached_ExecuteNoQueries() {
+        assertTrue(principalCache.get(EMAIL).isAccountNonLocked());
+
+        statistics.clear();
+        for (int i = 0; i < 10; i++) {
+            principalCache.get(EMAIL);
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGet_whenGamerBlockedAfterCaching_ReturnBlockedPrincipal() {
+        assertTrue(principalCache.get(EMAIL).isAccountNonLocked());
+
+        Gamer gamer = gamerRepository.findById("principal").orElseThrow();
+        gamer.setIsBlocked(true);
+        gamerRepository.save(gamer);
+
+        assertFalse(principalCache.get(EMAIL).isAccountNonLocked());
+    }
+}
@@ -0,0 +1,74 @@
+package com.back2261.applicationservice.config;
+
+import static com.back2261.applicationservice.GamerFixtures.newGamer;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.infrastructure.entity.Gamer;
+import com.back2261.applicationservice.infrastructure.entity.Games;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryCountingConfig.class)
+class QueryCounterTest {
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    void testCounts_whenLazyCollectionInitialized_CountStatementsLoadsAndFetches() {
+        persistGamerWithGame("counted");
+
+        QueryCounter.Counts counts = QueryCounter.start();
+        Gamer gamer = gamerRepository.findById("counted").orElseThrow();
+        assertEquals(1, gamer.getLikedgames().size());
+        QueryCounter.stop();
+        gamerRepository.findById("unknown");
+
+        assertEquals(2, counts.statements());
+        assertEquals(2, counts.entityLoads());
+        assertEquals(1, counts.collectionFetches());
+    }
+
+    @Test
+    void testPropagate_whenQueryRunsOnAnotherThread_AddToCallerCounts() {
+        QueryCounter.Counts counts = QueryCounter.start();
+
+        CompletableFuture.supplyAsync(QueryCounter.propagate(() -> gamerRepository.findById("elsewhere")))
+                .join();
+        CompletableFuture.supplyAsync(() -> gamerRepository.findById("uncounted"))
+                .join();
+
+        assertEquals(1, counts.statements());
+    }
+
+    private void persistGamerWithGame(String userId) {
+        Games game =
+                new Games(UUID.randomUUID().toString(), "game", "icon", "category", 7.5F, "description", false, null);
+        entityManager.persist(game);
+        Gamer gamer = newGamer(userId);
+        gamer.getLikedgames().add(game);
+        entityManager.persist(gamer);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,221 @@
+package com.back2261.applicationservice.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.GamerFixtures;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.domain.model.UserInfoSection;
+import com.back2261.applicationservice.domain.service.*;
+import com.back2261.applicationservice.infrastructure.entity.*;
+import com.back2261.applicationservice.infrastructure.repository.*;
+import com.back2261.applicationservice.interfaces.dto.AvatarsDto;
+import com.back2261.applicationservice.interfaces.dto.UserInfoResponseBody;
+import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads a gamer's associations through the second-level cache. The reads run without a surrounding test transaction
+ * and, as with open-in-view disabled, without an entity manager bound to the thread, so what they cache is what was
+ * committed.
+ */
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    SecondLevelCacheConfig.class,
+    SimpleMeterRegistry.class,
+    DefaultApplicationService.class,
+    AvatarCatalog.class,
+    BatchInsertRepository.class,
+    GamerCollectionCache.class,
+    FriendGraph.class,
+    BuddySuggestionIndex.class,
+    SectionLoader.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    private static final String USER_ID = "cached";
+    private static final int ITEM_COUNT = 3;
+
+    @Autowired
+    private DefaultApplicationService defaultApplicationService;
+
+    @Autowired
+    private AvatarCatalog avatarCatalog;
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private GamesRepository gamesRepository;
+
+    @Autowired
+    private KeywordsRepository keywordsRepository;
+
+    @Autowired
+    private AchievementsRepository achievementsRepository;
+
+    @Autowired
+    private AvatarsRepository avatarsRepository;
+
+    @Autowired
+    private BoughtAvatarRepository boughtAvatarRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private KeywordCatalog keywordCatalog;
+
+    @MockBean
+    private GamesCatalog gamesCatalog;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private NotificationOutbox notificationOutbox;
+
+    private Statistics statistics;
+    private Avatars specialAvatar;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        specialAvatar = avatarsRepository.save(new Avatars(UUID.randomUUID(), "special.png", true, 10));
+        avatarCatalog.refresh();
+
+        Gamer gamer = GamerFixtures.newGamer(USER_ID);
+        gamer.setCoin(100);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            gamer.getLikedgames().add(newGame("cached-game-" + i));
+            gamer.getKeywords()
+                    .add(keywordsRepository.save(
+                            new Keywords(UUID.randomUUID(), "keyword", new Date(), "description", null)));
+            gamer.getGamerEarnedAchievements()
+                    .add(achievementsRepository.save(
+                            new Achievements(UUID.randomUUID(), "achievement-" + i, 10, "description")));
+        }
+        gamerRepository.save(gamer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        boughtAvatarRepository.deleteAllInBatch();
+        gamerRepository.deleteAll();
+        gamesRepository.deleteAllInBatch();
+        keywordsRepository.deleteAllInBatch();
+        achievementsRepository.deleteAllInBatch();
+        avatarsRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testGetUserInfo_whenAssociationsCached_QueryOnlyGamerAndUncachedSections() {
+        UserInfoResponseBody first = getUserInfo();
+        assertEquals(ITEM_COUNT, first.getGames().size());
+
+        statistics.clear();
+        double collectionHits = hits("gamer.likedgames");
+        double gameHits = hits("games");
+        UserInfoResponseBody second = getUserInfo();
+
+        assertEquals(ITEM_COUNT, second.getGames().size());
+        assertEquals(ITEM_COUNT, second.getKeywords().size());
+        assertEquals(ITEM_COUNT, second.getAchievements().size());
+        assertTrue(second.getIncompleteSections().isEmpty());
+        // The gamer, its joined communities and its friends.
+        assertEquals(3, statistics.getPrepareStatementCount());
+        // Read once to preload the elements and once when the collection is initialized.
+        assertEquals(2, hits("gamer.likedgames") - collectionHits);
+        assertEquals(ITEM_COUNT, hits("games") - gameHits);
+    }
+
+    @Test
+    void testGetUserInfo_whenElementsEvictedButCollectionCached_LoadElementsInOneBatch() {
+        getUserInfo();
+        entityManagerFactory.getCache().evict(Games.class);
+        assertTrue(entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .getCache()
+                .containsCollection(Gamer.class.getName() + ".likedgames", USER_ID));
+
+        statistics.clear();
+        UserInfoResponseBody response = getUserInfo();
+
+        assertEquals(ITEM_COUNT, response.getGames().size());
+        // The three statements of a fully cached request and one for all the evicted games.
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetUserInfo_whenGameLikedAfterCaching_ReturnLikedGame() {
+        getUserInfo();
+
+        Games game = newGame("cached-game-new");
+        transactionTemplate.executeWithoutResult(status ->
+                gamerRepository.findById(USER_ID).orElseThrow().getLikedgames().add(game));
+
+        assertEquals(ITEM_COUNT + 1, getUserInfo().getGames().size());
+    }
+
+    @Test
+    void testGetAvatars_whenAvatarBoughtAfterCaching_ReturnBoughtAvatar() {
+        GamerPrincipal principal = new GamerPrincipal(USER_ID, USER_ID + "@test.com", false);
+        assertFalse(avatarImages(principal).contains("special.png"));
+
+        defaultApplicationService.buyItem(principal, specialAvatar.getId().toString());
+
+        assertTrue(avatarImages(principal).contains("special.png"));
+    }
+
+    private UserInfoResponseBody getUserInfo() {
+        return defaultApplicationService
+                .getUserInfo(USER_ID, UserInfoSection.all())
+                .getBody()
+                .getData();
+    }
+
+    private List<String> avatarImages(GamerPrincipal principal) {
+        return defaultApplicationService.getAvatars(principal).getBody().getData().getAvatars().stream()
+                .map(AvatarsDto::getImage)
+                .toList();
+    }
+
+    private double hits(String region) {
+        return meterRegistry
+                .get("cache.gets")
+                .tag("cache", region)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+
+    private Games newGame(String gameId) {
+        return gamesRepository.save(new Games(gameId, "game", "icon", "category", 7.5F, "description", false, null));
+    }
+}
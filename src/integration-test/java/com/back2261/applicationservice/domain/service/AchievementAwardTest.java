@@ -0,0 +1,99 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.GamerFixtures;
+import com.back2261.applicationservice.domain.event.ItemBoughtEvent;
+import com.back2261.applicationservice.infrastructure.entity.*;
+import com.back2261.applicationservice.infrastructure.repository.*;
+import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
+import java.util.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Awards achievements against the database, each evaluation in its own transaction as after a real event. */
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AchievementEngine.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AchievementAwardTest {
+
+    private static final String USER_ID = "achiever";
+
+    @Autowired
+    private AchievementEngine achievementEngine;
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private AvatarsRepository avatarsRepository;
+
+    @Autowired
+    private AchievementsRepository achievementsRepository;
+
+    @Autowired
+    private BoughtAvatarRepository boughtAvatarRepository;
+
+    @Autowired
+    private EarnedAchievementRepository earnedAchievementRepository;
+
+    @MockBean
+    private NotificationOutbox notificationOutbox;
+
+    private Achievements achievement;
+
+    @BeforeEach
+    void setUp() {
+        achievement = achievementsRepository.save(
+                new Achievements(UUID.randomUUID(), AchievementEngine.RICH_IN_THE_HOOD, 50, "description"));
+        gamerRepository.save(GamerFixtures.newGamer(USER_ID));
+        for (int i = 0; i < 3; i++) {
+            Avatars avatar = avatarsRepository.save(new Avatars(UUID.randomUUID(), "avatar-" + i, true, 10));
+            boughtAvatarRepository.save(new BoughtAvatar(USER_ID, avatar.getId()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        earnedAchievementRepository.deleteAllInBatch();
+        boughtAvatarRepository.deleteAllInBatch();
+        gamerRepository.deleteById(USER_ID);
+        achievementsRepository.deleteAllInBatch();
+        avatarsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testEvaluate_whenThresholdReached_InsertJoinRowWithoutUpdatingGamer() {
+        Date lastModified = gamerRepository.findById(USER_ID).orElseThrow().getLastModifiedDate();
+
+        achievementEngine.evaluate(new ItemBoughtEvent(USER_ID, UUID.randomUUID()));
+
+        assertTrue(earnedAchievementRepository.existsById(
+                new EarnedAchievement.EarnedAchievementId(USER_ID, achievement.getId())));
+        assertEquals(
+                lastModified, gamerRepository.findById(USER_ID).orElseThrow().getLastModifiedDate());
+        Mockito.verify(notificationOutbox).enqueue(Mockito.any(SendNotificationTokenRequest.class));
+    }
+
+    @Test
+    @Transactional
+    void testInsertIfNotEarned_whenAlreadyEarned_InsertNothing() {
+        assertEquals(1, earnedAchievementRepository.insertIfNotEarned(USER_ID, achievement.getId()));
+        assertEquals(0, earnedAchievementRepository.insertIfNotEarned(USER_ID, achievement.getId()));
+        assertEquals(0, earnedAchievementRepository.insertIfNotEarned("missing", achievement.getId()));
+
+        assertEquals(1, earnedAchievementRepository.count());
+    }
+}
@@ -0,0 +1,179 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.GamerFixtures;
+import com.back2261.applicationservice.config.GamerCollectionCache;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.infrastructure.entity.*;
+import com.back2261.applicationservice.infrastructure.repository.*;
+import io.github.GameBuddyDevs.backendlibrary.exception.BusinessException;
+import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    DefaultApplicationService.class,
+    AvatarCatalog.class,
+    BatchInsertRepository.class,
+    GamerCollectionCache.class,
+    FriendGraph.class,
+    BuddySuggestionIndex.class,
+    SectionLoader.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CoinBalanceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int TASKS = 20;
+    private static final String USER_ID = "wallet";
+
+    @Autowired
+    private DefaultApplicationService defaultApplicationService;
+
+    @Autowired
+    private AvatarCatalog avatarCatalog;
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private AvatarsRepository avatarsRepository;
+
+    @Autowired
+    private AchievementsRepository achievementsRepository;
+
+    @Autowired
+    private BoughtAvatarRepository boughtAvatarRepository;
+
+    @Autowired
+    private CollectedAchievementRepository collectedAchievementRepository;
+
+    @MockBean
+    private KeywordCatalog keywordCatalog;
+
+    @MockBean
+    private GamesCatalog gamesCatalog;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private NotificationOutbox notificationOutbox;
+
+    private final GamerPrincipal principal = new GamerPrincipal(USER_ID, USER_ID + "@test.com", false);
+    private List<Avatars> avatars;
+    private List<Achievements> achievements;
+
+    @BeforeEach
+    void setUp() {
+        avatars = new ArrayList<>();
+        achievements = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            avatars.add(avatarsRepository.save(new Avatars(UUID.randomUUID(), "avatar-" + i, true, 10)));
+            achievements.add(achievementsRepository.save(
+                    new Achievements(UUID.randomUUID(), "achievement-" + i, 5, "description")));
+        }
+        Gamer gamer = GamerFixtures.newGamer(USER_ID);
+        gamer.setCoin(100);
+        gamer.setGamerEarnedAchievements(new HashSet<>(achievements));
+        gamerRepository.save(gamer);
+        avatarCatalog.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boughtAvatarRepository.deleteAllInBatch();
+        collectedAchievementRepository.deleteAllInBatch();
+        gamerRepository.deleteById(USER_ID);
+        achievementsRepository.deleteAllInBatch();
+        avatarsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testBuyItem_whenPurchasesRunInParallel_NeverOverdrawOrLoseDebits() throws Exception {
+        Map<Integer, Integer> outcomes =
+                runInParallel(TASKS, i -> defaultApplicationService.buyItem(principal, id(avatars.get(i))));
+
+        assertEquals(10, outcomes.get(100));
+        assertEquals(10, outcomes.get(129));
+        assertEquals(0, coin());
+        assertEquals(10, boughtAvatarRepository.count());
+    }
+
+    @Test
+    void testBuyItem_whenSameAvatarBoughtInParallel_DebitOnce() throws Exception {
+        Map<Integer, Integer> outcomes =
+                runInParallel(TASKS, i -> defaultApplicationService.buyItem(principal, id(avatars.get(0))));
+
+        assertEquals(1, outcomes.get(100));
+        assertEquals(TASKS - 1, outcomes.get(128));
+        assertEquals(90, coin());
+        assertEquals(1, boughtAvatarRepository.count());
+    }
+
+    @Test
+    void testCollectAchievement_whenCollectedTwiceInParallel_CreditEachAchievementOnce() throws Exception {
+        Map<Integer, Integer> outcomes = runInParallel(
+                TASKS * 2,
+                i -> defaultApplicationService.collectAchievement(principal, id(achievements.get(i % TASKS))));
+
+        assertEquals(TASKS, outcomes.get(100));
+        assertEquals(TASKS, outcomes.get(125));
+        assertEquals(100 + TASKS * 5, coin());
+        assertEquals(TASKS, collectedAchievementRepository.count());
+    }
+
+    /** Runs {@code tasks} calls on a shared start signal and counts the outcomes by transaction code. */
+    private Map<Integer, Integer> runInParallel(int tasks, Consumer<Integer> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    task.accept(index);
+                    return 100;
+                } catch (BusinessException e) {
+                    return e.getTransactionCode().getId();
+                }
+            }));
+        }
+        start.countDown();
+        Map<Integer, Integer> outcomes = new HashMap<>();
+        for (Future<Integer> future : futures) {
+            outcomes.merge(future.get(30, TimeUnit.SECONDS), 1, Integer::sum);
+        }
+        executor.shutdown();
+        return outcomes;
+    }
+
+    private int coin() {
+        return gamerRepository.findById(USER_ID).orElseThrow().getCoin();
+    }
+
+    private String id(Avatars avatar) {
+        return avatar.getId().toString();
+    }
+
+    private String id(Achievements achievement) {
+        return achievement.getId().toString();
+    }
+}
@@ -0,0 +1,205 @@
+package com.back2261.applicationservice.domain.service;
+
+import static com.back2261.applicationservice.GamerFixtures.newGamer;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.config.GamerCollectionCache;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.infrastructure.entity.*;
+import com.back2261.applicationservice.infrastructure.repository.BatchInsertRepository;
+import com.back2261.applicationservice.infrastructure.repository.BlockedFriendRepository;
+import com.back2261.applicationservice.infrastructure.repository.FriendRepository;
+import com.back2261.applicationservice.infrastructure.repository.WaitingFriendRepository;
+import com.back2261.applicationservice.interfaces.request.BulkFriendRequest;
+import com.back2261.applicationservice.interfaces.request.FriendOperationRequest;
+import com.back2261.applicationservice.interfaces.request.FriendRequest;
+import io.github.GameBuddyDevs.backendlibrary.exception.BusinessException;
+import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    DefaultApplicationService.class,
+    AvatarCatalog.class,
+    BatchInsertRepository.class,
+    GamerCollectionCache.class,
+    FriendGraph.class,
+    BuddySuggestionIndex.class,
+    SectionLoader.class
+})
+class FriendWorkflowQueryCountTest {
+
+    @Autowired
+    private DefaultApplicationService defaultApplicationService;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private WaitingFriendRepository waitingFriendRepository;
+
+    @Autowired
+    private BlockedFriendRepository blockedFriendRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private KeywordCatalog keywordCatalog;
+
+    @MockBean
+    private GamesCatalog gamesCatalog;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private NotificationOutbox notificationOutbox;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testSendAndAcceptFriend_whenUsersHaveManyFriends_ExecuteSameNumberOfQueries() {
+        long[] small = sendAndAcceptCountingQueries("small", 0);
+        long[] large = sendAndAcceptCountingQueries("large", 50);
+
+        assertArrayEquals(small, large);
+        assertTrue(friendRepository.existsByUserIdAndFriendId("large", "large-target"));
+        assertTrue(friendRepository.existsByUserIdAndFriendId("large-target", "large"));
+        assertFalse(waitingFriendRepository.existsByUserIdAndWaitingFriendId("large-target", "large"));
+    }
+
+    @Test
+    void testSendFriendRequest_whenRequestAlreadySent_ReturnErrorCode120() {
+        persistGamerWithFriends("sender", 0);
+        persistGamerWithFriends("target", 0);
+        entityManager.persist(new WaitingFriend("target", "sender"));
+        entityManager.flush();
+
+        FriendRequest request = new FriendRequest();
+        request.setUserId("target");
+        BusinessException exception = assertThrows(
+                BusinessException.class,
+                () -> defaultApplicationService.sendFriendRequest(request, principal("sender")));
+        assertEquals(120, exception.getTransactionCode().getId());
+    }
+
+    @Test
+    void testBlockUser_whenUsersAreFriends_RemoveFriendshipInBothDirections() {
+        persistGamerWithFriends("blocker", 0);
+        persistGamerWithFriends("blocked", 0);
+        entityManager.persist(new Friend("blocker", "blocked"));
+        entityManager.persist(new Friend("blocked", "blocker"));
+        entityManager.persist(new WaitingFriend("blocked", "blocker"));
+        entityManager.flush();
+
+        FriendRequest request = new FriendRequest();
+        request.setUserId("blocked");
+        defaultApplicationService.blockUser(request, principal("blocker"));
+        entityManager.flush();
+
+        assertFalse(friendRepository.existsByUserIdAndFriendId("blocker", "blocked"));
+        assertFalse(friendRepository.existsByUserIdAndFriendId("blocked", "blocker"));
+        assertFalse(waitingFriendRepository.existsByUserIdAndWaitingFriendId("blocked", "blocker"));
+        BusinessException exception = assertThrows(
+                BusinessException.class, () -> defaultApplicationService.blockUser(request, principal("blocker")));
+        assertEquals(118, exception.getTransactionCode().getId());
+    }
+
+    @Test
+    void testApplyFriendOperations_whenManyRequestsAnswered_ExecuteSameNumberOfQueries() {
+        long small = answerRequestsCountingQueries("few", 3);
+        long large = answerRequestsCountingQueries("many", 30);
+
+        assertEquals(small, large);
+        assertEquals(15, friendRepository.countByUserId("many"));
+        assertTrue(friendRepository.existsByUserIdAndFriendId("many-requester-0", "many"));
+        assertFalse(waitingFriendRepository.existsByUserIdAndWaitingFriendId("many", "many-requester-1"));
+        assertTrue(blockedFriendRepository.existsByGamerIdAndBlockedId("many", "many-requester-1"));
+    }
+
+    // Accepts every even requester and blocks every odd one in a single bulk call.
+    private long answerRequestsCountingQueries(String userId, int requestCount) {
+        persistGamerWithFriends(userId, 0);
+        List<FriendOperationRequest> operations = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            String requesterId = userId + "-requester-" + i;
+            entityManager.persist(newGamer(requesterId));
+            entityManager.persist(new WaitingFriend(userId, requesterId));
+            FriendOperationRequest operation = new FriendOperationRequest();
+            operation.setUserId(requesterId);
+            operation.setAction(
+                    i % 2 == 0 ? FriendOperationRequest.Action.ACCEPT : FriendOperationRequest.Action.BLOCK);
+            operations.add(operation);
+        }
+        BulkFriendRequest bulkFriendRequest = new BulkFriendRequest();
+        bulkFriendRequest.setOperations(operations);
+
+        clearStatistics();
+        defaultApplicationService.applyFriendOperations(bulkFriendRequest, principal(userId));
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long[] sendAndAcceptCountingQueries(String userId, int friendCount) {
+        persistGamerWithFriends(userId, friendCount);
+        persistGamerWithFriends(userId + "-target", friendCount);
+        FriendRequest sendRequest = new FriendRequest();
+        sendRequest.setUserId(userId + "-target");
+        FriendRequest acceptRequest = new FriendRequest();
+        acceptRequest.setUserId(userId);
+
+        clearStatistics();
+        defaultApplicationService.sendFriendRequest(sendRequest, principal(userId));
+        entityManager.flush();
+        long sendCount = statistics.getPrepareStatementCount();
+
+        clearStatistics();
+        defaultApplicationService.acceptFriend(acceptRequest, principal(userId + "-target"));
+        entityManager.flush();
+        long acceptCount = statistics.getPrepareStatementCount();
+        return new long[] {sendCount, acceptCount};
+    }
+
+    private void clearStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void persistGamerWithFriends(String userId, int friendCount) {
+        entityManager.persist(newGamer(userId));
+        for (int i = 0; i < friendCount; i++) {
+            String friendId = userId + "-friend-" + i;
+            entityManager.persist(newGamer(friendId));
+            entityManager.persist(new Friend(userId, friendId));
+            entityManager.persist(new Friend(friendId, userId));
+        }
+    }
+
+    private GamerPrincipal principal(String userId) {
+        return new GamerPrincipal(userId, userId + "@test.com", false);
+    }
+}
@@ -0,0 +1,91 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.infrastructure.entity.OutboxNotification;
+import com.back2261.applicationservice.infrastructure.repository.BatchInsertRepository;
+import com.back2261.applicationservice.infrastructure.repository.OutboxNotificationRepository;
+import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Runs the dispatcher without a surrounding test transaction, as the scheduler does. */
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({NotificationOutbox.class, NotificationDispatcher.class, BatchInsertRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxTest {
+
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private OutboxNotificationRepository outboxNotificationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @AfterEach
+    void tearDown() {
+        outboxNotificationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testDispatchBatch_whenOneDeliveryFails_DeleteDeliveredAndKeepFailedForRetry() {
+        enqueue("ok", "broken", null);
+        Mockito.when(notificationService.sendToToken(
+                        Mockito.argThat(request -> request != null && "broken".equals(request.getToken()))))
+                .thenThrow(new RuntimeException("unavailable"));
+
+        assertEquals(2, notificationDispatcher.dispatchBatch());
+
+        List<OutboxNotification> remaining = outboxNotificationRepository.findAll();
+        assertEquals(1, remaining.size());
+        assertEquals("broken", remaining.get(0).getToken());
+        assertEquals(1, remaining.get(0).getAttempts());
+        assertEquals(0, notificationDispatcher.dispatchBatch());
+    }
+
+    @Test
+    void testDispatchBatch_whenDelivering_NoTransactionIsOpen() {
+        enqueue("first", "second");
+        List<Boolean> transactionActive = new ArrayList<>();
+        Mockito.when(notificationService.sendToToken(Mockito.any())).thenAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        });
+
+        assertEquals(2, notificationDispatcher.dispatchBatch());
+
+        assertEquals(List.of(false, false), transactionActive);
+        assertEquals(0, outboxNotificationRepository.count());
+    }
+
+    private void enqueue(String... tokens) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String token : tokens) {
+                notificationOutbox.enqueue(new SendNotificationTokenRequest(token, "title", "body", null));
+            }
+        });
+    }
+}
@@ -0,0 +1,171 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.GamerFixtures;
+import com.back2261.applicationservice.config.GamerCollectionCache;
+import com.back2261.applicationservice.domain.model.UserInfoSection;
+import com.back2261.applicationservice.infrastructure.entity.*;
+import com.back2261.applicationservice.infrastructure.repository.BatchInsertRepository;
+import com.back2261.applicationservice.interfaces.dto.UserInfoResponseBody;
+import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+    DefaultApplicationService.class,
+    AvatarCatalog.class,
+    BatchInsertRepository.class,
+    GamerCollectionCache.class,
+    FriendGraph.class,
+    BuddySuggestionIndex.class,
+    SectionLoader.class
+})
+class UserInfoQueryCountTest {
+
+    // One query per section; inside the test transaction the gamer itself was already loaded by the section queries
+    // that fetch it with its associations.
+    private static final long USER_INFO_QUERY_COUNT = 5;
+
+    @Autowired
+    private DefaultApplicationService defaultApplicationService;
+
+    @Autowired
+    private AvatarCatalog avatarCatalog;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private KeywordCatalog keywordCatalog;
+
+    @MockBean
+    private GamesCatalog gamesCatalog;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private NotificationOutbox notificationOutbox;
+
+    private Statistics statistics;
+    private Avatars avatar;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        avatar = new Avatars(UUID.randomUUID(), "avatar.png", false, 0);
+        entityManager.persist(avatar);
+        entityManager.flush();
+        avatarCatalog.refresh();
+    }
+
+    @Test
+    void testGetUserInfo_whenUserHasFewRelations_ExecutesFixedNumberOfQueries() {
+        Gamer gamer = persistGamer("small", 1, 1, 1);
+
+        UserInfoResponseBody body = getUserInfoCountingQueries(gamer.getUserId());
+
+        assertEquals(1, body.getFriends().size());
+        assertEquals(1, body.getJoinedCommunities().size());
+        assertEquals(1, body.getGames().size());
+        assertEquals(1, body.getKeywords().size());
+        assertEquals(1, body.getAchievements().size());
+        assertEquals(USER_INFO_QUERY_COUNT, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetUserInfo_whenUserHasManyRelations_ExecutesSameNumberOfQueries() {
+        Gamer gamer = persistGamer("large", 40, 10, 8);
+
+        UserInfoResponseBody body = getUserInfoCountingQueries(gamer.getUserId());
+
+        assertEquals(40, body.getFriends().size());
+        assertEquals("avatar.png", body.getFriends().get(0).getAvatar());
+        assertEquals(10, body.getJoinedCommunities().size());
+        assertEquals(
+                1,
+                body.getJoinedCommunities().stream()
+                        .filter(community -> Boolean.TRUE.equals(community.getIsOwner()))
+                        .count());
+        assertEquals(8, body.getGames().size());
+        assertEquals(8, body.getKeywords().size());
+        assertEquals(8, body.getAchievements().size());
+        assertEquals(USER_INFO_QUERY_COUNT, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetUserInfo_whenOnlyHeaderFieldsRequested_QueryOnlyGamer() {
+        Gamer gamer = persistGamer("header", 5, 2, 3);
+
+        UserInfoResponseBody body =
+                getUserInfoCountingQueries(gamer.getUserId(), EnumSet.noneOf(UserInfoSection.class));
+
+        assertEquals("header", body.getUsername());
+        assertNull(body.getFriends());
+        assertNull(body.getGames());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    private UserInfoResponseBody getUserInfoCountingQueries(String userId) {
+        return getUserInfoCountingQueries(userId, UserInfoSection.all());
+    }
+
+    private UserInfoResponseBody getUserInfoCountingQueries(String userId, Set<UserInfoSection> sections) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return defaultApplicationService.getUserInfo(userId, sections).getBody().getData();
+    }
+
+    private Gamer persistGamer(String userId, int friendCount, int communityCount, int itemCount) {
+        Gamer gamer = newGamer(userId);
+        for (int i = 0; i < friendCount; i++) {
+            gamer.getFriends().add(entityManager.persist(newGamer(userId + "-friend-" + i)));
+        }
+        for (int i = 0; i < communityCount; i++) {
+            Gamer owner = i == 0 ? gamer : gamer.getFriends().iterator().next();
+            Community community = new Community(
+                    UUID.randomUUID(), "community-" + i, "description", "avatar", "wallpaper", new Date(), owner);
+            gamer.getJoinedCommunities().add(community);
+        }
+        entityManager.persist(gamer);
+        gamer.getJoinedCommunities().forEach(entityManager::persist);
+        for (int i = 0; i < itemCount; i++) {
+            Games game = new Games(userId + "-game-" + i, "game", "icon", "category", 7.5F, "description", false, null);
+            Keywords keyword = new Keywords(UUID.randomUUID(), "keyword", new Date(), "description", null);
+            Achievements achievement = new Achievements(UUID.randomUUID(), "achievement-" + i, 10, "description");
+            entityManager.persist(game);
+            entityManager.persist(keyword);
+            entityManager.persist(achievement);
+            gamer.getLikedgames().add(game);
+            gamer.getKeywords().add(keyword);
+            gamer.getGamerEarnedAchievements().add(achievement);
+        }
+        return gamer;
+    }
+
+    private Gamer newGamer(String userId) {
+        Gamer gamer = GamerFixtures.newGamer(userId);
+        gamer.setAvatar(avatar.getId());
+        return gamer;
+    }
+}
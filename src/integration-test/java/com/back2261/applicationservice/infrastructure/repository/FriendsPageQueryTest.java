@@ -0,0 +1,98 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.GamerFixtures;
+import com.back2261.applicationservice.infrastructure.entity.Avatars;
+import com.back2261.applicationservice.infrastructure.entity.Gamer;
+import com.back2261.applicationservice.interfaces.dto.GamerDto;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("it")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FriendsPageQueryTest {
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private WaitingFriendRepository waitingFriendRepository;
+
+    @Autowired
+    private BlockedFriendRepository blockedFriendRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Avatars avatar;
+    private Gamer gamer;
+
+    @BeforeEach
+    void setUp() {
+        avatar = new Avatars(UUID.randomUUID(), "avatar.png", false, 0);
+        entityManager.persist(avatar);
+        gamer = newGamer("owner");
+        for (String userId : List.of("c", "a", "e", "b", "d")) {
+            Gamer other = entityManager.persist(newGamer(userId));
+            gamer.getFriends().add(other);
+            gamer.getWaitingFriends().add(other);
+            gamer.getBlockedFriends().add(other);
+        }
+        Gamer stranger = entityManager.persist(newGamer("stranger"));
+        stranger.getFriends().add(gamer);
+        entityManager.persist(gamer);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFindFriendsPage_whenPagedWithLastKey_ReturnAllFriendsInKeyOrderOnce() {
+        List<GamerDto> firstPage = friendRepository.findFriendsPage("owner", "", PageRequest.of(0, 2));
+        List<GamerDto> secondPage =
+                friendRepository.findFriendsPage("owner", firstPage.get(1).getUserId(), PageRequest.of(0, 2));
+        List<GamerDto> lastPage =
+                friendRepository.findFriendsPage("owner", secondPage.get(1).getUserId(), PageRequest.of(0, 2));
+
+        assertEquals(List.of("a", "b"), userIds(firstPage));
+        assertEquals(List.of("c", "d"), userIds(secondPage));
+        assertEquals(List.of("e"), userIds(lastPage));
+        assertEquals("avatar.png", firstPage.get(0).getAvatar());
+        assertEquals("a", firstPage.get(0).getUsername());
+    }
+
+    @Test
+    void testFindWaitingFriendsPage_whenCalled_ReturnRequestsAfterKey() {
+        List<GamerDto> page = waitingFriendRepository.findWaitingFriendsPage("owner", "b", PageRequest.of(0, 10));
+
+        assertEquals(List.of("c", "d", "e"), userIds(page));
+    }
+
+    @Test
+    void testFindBlockedFriendsPage_whenCalled_ReturnBlockedUsersOfGamerOnly() {
+        List<GamerDto> page = blockedFriendRepository.findBlockedFriendsPage("owner", "", PageRequest.of(0, 10));
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), userIds(page));
+        assertTrue(blockedFriendRepository
+                .findBlockedFriendsPage("a", "", PageRequest.of(0, 10))
+                .isEmpty());
+    }
+
+    private List<String> userIds(List<GamerDto> page) {
+        return page.stream().map(GamerDto::getUserId).toList();
+    }
+
+    private Gamer newGamer(String userId) {
+        Gamer gamer = GamerFixtures.newGamer(userId);
+        gamer.setAvatar(avatar.getId());
+        return gamer;
+    }
+}
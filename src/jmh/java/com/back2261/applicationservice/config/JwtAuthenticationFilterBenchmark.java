@@ -0,0 +1,110 @@
+package com.back2261.applicationservice.config;
+
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Per-request cost of {@link JwtAuthenticationFilter}: parsing and verifying an HS256 token, resolving the principal
+ * from a warm {@link PrincipalCache} and populating the security context. Requests without a token are measured as
+ * the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String EMAIL = "gamer@gamebuddy.com";
+    private static final FilterChain CHAIN = (request, response) -> {};
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        Key key = Keys.hmacShaKeyFor("benchmark-signing-key-that-is-long-enough-for-hs256".getBytes());
+        String token = Jwts.builder()
+                .setSubject(EMAIL)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+        authorizationHeader = "Bearer " + token;
+
+        GamerRepository gamerRepository = Mockito.mock(GamerRepository.class);
+        Mockito.when(gamerRepository.findPrincipalByEmail(EMAIL))
+                .thenReturn(Optional.of(new GamerPrincipal("user-1", EMAIL, false)));
+        PrincipalCache principalCache = new PrincipalCache(gamerRepository, 10_000, Duration.ofHours(1));
+        filter = new JwtAuthenticationFilter(new SignedTokenJwtService(key), principalCache);
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/application/get/friends");
+        request.addHeader("Authorization", authorizationHeader);
+        return filter(request);
+    }
+
+    @Benchmark
+    public Authentication requestWithoutToken() throws Exception {
+        return filter(new MockHttpServletRequest("GET", "/application/get/games"));
+    }
+
+    private Authentication filter(MockHttpServletRequest request) throws Exception {
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /** Verifies tokens the way the backend library does, with a signing key local to the benchmark. */
+    private static final class SignedTokenJwtService extends JwtService {
+
+        private final Key key;
+
+        private SignedTokenJwtService(Key key) {
+            this.key = key;
+        }
+
+        @Override
+        public String extractUsername(String token) {
+            return claims(token).getSubject();
+        }
+
+        @Override
+        public Boolean validateToken(String token, UserDetails userDetails) {
+            Claims claims = claims(token);
+            return claims.getSubject().equals(userDetails.getUsername())
+                    && claims.getExpiration().after(new Date());
+        }
+
+        private Claims claims(String token) {
+            return Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.domain.model.GamerFeature;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * One buddy suggestion request against an index of a million gamers: the candidate union, clearing the gamer's
+ * friends, blocks and pending requests, and scoring the rest. The index is built once from a mocked repository; every
+ * gamer has a few keywords out of a small vocabulary and a couple of games out of a larger catalog, so a request has
+ * tens of thousands of candidates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BuddySuggestionIndexBenchmark {
+
+    private static final int REQUESTS = 64;
+    private static final int KEYWORDS = 200;
+    private static final int GAMES = 5000;
+    private static final int KEYWORDS_PER_GAMER = 3;
+    private static final int GAMES_PER_GAMER = 2;
+
+    @Param({"1000000"})
+    private int gamers;
+
+    @Param({"0", "1000"})
+    private int excludedPerRequest;
+
+    private BuddySuggestionIndex buddySuggestionIndex;
+    private String[] userIds;
+    private List<List<String>> excluded;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<GamerFeature> keywords = new ArrayList<>(gamers * KEYWORDS_PER_GAMER);
+        List<GamerFeature> games = new ArrayList<>(gamers * GAMES_PER_GAMER);
+        String[] keywordIds = ids("keyword-", KEYWORDS);
+        String[] gameIds = ids("game-", GAMES);
+        String[] allUserIds = ids("user-", gamers);
+        for (String userId : allUserIds) {
+            for (int i = 0; i < KEYWORDS_PER_GAMER; i++) {
+                keywords.add(new GamerFeature(userId, keywordIds[random.nextInt(KEYWORDS)]));
+            }
+            for (int i = 0; i < GAMES_PER_GAMER; i++) {
+                games.add(new GamerFeature(userId, gameIds[random.nextInt(GAMES)]));
+            }
+        }
+        GamerRepository gamerRepository = Mockito.mock(GamerRepository.class);
+        Mockito.when(gamerRepository.findKeywordFeatures()).thenReturn(keywords);
+        Mockito.when(gamerRepository.findGameFeatures()).thenReturn(games);
+        buddySuggestionIndex = new BuddySuggestionIndex(gamerRepository);
+        buddySuggestionIndex.refresh();
+
+        userIds = new String[REQUESTS];
+        excluded = new ArrayList<>(REQUESTS);
+        for (int request = 0; request < REQUESTS; request++) {
+            userIds[request] = allUserIds[random.nextInt(gamers)];
+            List<String> excludedIds = new ArrayList<>(excludedPerRequest);
+            for (int i = 0; i < excludedPerRequest; i++) {
+                excludedIds.add(allUserIds[random.nextInt(gamers)]);
+            }
+            excluded.add(excludedIds);
+        }
+    }
+
+    @Benchmark
+    public List<BuddySuggestionIndex.Suggestion> suggest() {
+        int request = next++ & (REQUESTS - 1);
+        return buddySuggestionIndex.suggest(userIds[request], excluded.get(request), 20);
+    }
+
+    private static String[] ids(String prefix, int count) {
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = prefix + i;
+        }
+        return ids;
+    }
+}
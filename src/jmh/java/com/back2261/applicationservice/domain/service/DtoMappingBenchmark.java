@@ -0,0 +1,75 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.infrastructure.entity.Games;
+import com.back2261.applicationservice.infrastructure.entity.Keywords;
+import com.back2261.applicationservice.interfaces.dto.GamesDto;
+import com.back2261.applicationservice.interfaces.dto.KeywordsDto;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * Entity to DTO mapping of the games and keywords lists returned by the user info and catalog endpoints, comparing
+ * {@link DtoMapper} with the reflective {@code BeanUtils.copyProperties} it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private List<Games> games;
+    private List<Keywords> keywords;
+
+    @Setup
+    public void setUp() {
+        games = new ArrayList<>(size);
+        keywords = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            games.add(new Games(
+                    "game-" + i, "Game " + i, "icon-" + i, "Strategy", 4.2f, "Description " + i, i % 10 == 0, null));
+            keywords.add(new Keywords(UUID.randomUUID(), "Keyword " + i, new Date(), "Description " + i, null));
+        }
+    }
+
+    @Benchmark
+    public List<GamesDto> mapGames() {
+        return DtoMapper.toGamesDtoList(games);
+    }
+
+    @Benchmark
+    public List<GamesDto> copyGamesProperties() {
+        List<GamesDto> gamesDtoList = new ArrayList<>(games.size());
+        for (Games game : games) {
+            GamesDto gamesDto = new GamesDto();
+            BeanUtils.copyProperties(game, gamesDto);
+            gamesDtoList.add(gamesDto);
+        }
+        return gamesDtoList;
+    }
+
+    @Benchmark
+    public List<KeywordsDto> mapKeywords() {
+        return DtoMapper.toKeywordsDtoList(keywords);
+    }
+
+    @Benchmark
+    public List<KeywordsDto> copyKeywordsProperties() {
+        List<KeywordsDto> keywordsDtoList = new ArrayList<>(keywords.size());
+        for (Keywords keyword : keywords) {
+            KeywordsDto keywordsDto = new KeywordsDto();
+            BeanUtils.copyProperties(keyword, keywordsDto);
+            keywordsDtoList.add(keywordsDto);
+        }
+        return keywordsDtoList;
+    }
+}
@@ -0,0 +1,96 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.domain.model.GamerPair;
+import com.back2261.applicationservice.infrastructure.repository.BlockedFriendRepository;
+import com.back2261.applicationservice.infrastructure.repository.FriendRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * The friend graph's reads, listing a gamer's connections and merging mutual friends, and a full reload from mocked
+ * repositories streaming the id pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FriendGraphBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    @Param({"10000"})
+    private int gamers;
+
+    @Param({"50", "500"})
+    private int friendsPerGamer;
+
+    private FriendGraph friendGraph;
+    private String[] userIds;
+    private String[] otherIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        // Sets, as the tables' primary keys keep the pairs unique.
+        Set<GamerPair> friends = new LinkedHashSet<>();
+        Set<GamerPair> blocked = new LinkedHashSet<>();
+        for (int gamer = 0; gamer < gamers; gamer++) {
+            for (int i = 0; i < friendsPerGamer / 2; i++) {
+                String friendId = userId(random.nextInt(gamers));
+                friends.add(new GamerPair(userId(gamer), friendId));
+                friends.add(new GamerPair(friendId, userId(gamer)));
+            }
+            blocked.add(new GamerPair(userId(gamer), userId(random.nextInt(gamers))));
+        }
+        List<GamerPair> friendRows = new ArrayList<>(friends);
+        List<GamerPair> blockedRows = new ArrayList<>(blocked);
+        FriendRepository friendRepository = Mockito.mock(FriendRepository.class);
+        BlockedFriendRepository blockedFriendRepository = Mockito.mock(BlockedFriendRepository.class);
+        Mockito.when(friendRepository.streamAll()).thenAnswer(invocation -> friendRows.stream());
+        Mockito.when(blockedFriendRepository.streamAll()).thenAnswer(invocation -> blockedRows.stream());
+        friendGraph = new FriendGraph(
+                friendRepository, blockedFriendRepository, Mockito.mock(PlatformTransactionManager.class));
+        friendGraph.load();
+
+        userIds = new String[PAIRS];
+        otherIds = new String[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            userIds[i] = userId(random.nextInt(gamers));
+            otherIds[i] = userId(random.nextInt(gamers));
+        }
+    }
+
+    @Benchmark
+    public Set<String> connections() {
+        return friendGraph.connections(userIds[next++ & (PAIRS - 1)]);
+    }
+
+    @Benchmark
+    public List<String> mutualFriends() {
+        int pair = next++ & (PAIRS - 1);
+        return friendGraph.mutualFriends(userIds[pair], otherIds[pair]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public void reload() {
+        friendGraph.reload();
+    }
+
+    private static String userId(int gamer) {
+        return "user-" + gamer;
+    }
+}
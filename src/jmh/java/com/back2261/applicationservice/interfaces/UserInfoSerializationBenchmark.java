@@ -0,0 +1,90 @@
+package com.back2261.applicationservice.interfaces;
+
+import com.back2261.applicationservice.infrastructure.entity.Achievements;
+import com.back2261.applicationservice.interfaces.dto.CommunityDto;
+import com.back2261.applicationservice.interfaces.dto.GamerDto;
+import com.back2261.applicationservice.interfaces.dto.GamesDto;
+import com.back2261.applicationservice.interfaces.dto.KeywordsDto;
+import com.back2261.applicationservice.interfaces.dto.UserInfoResponseBody;
+import com.back2261.applicationservice.interfaces.response.UserInfoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.GameBuddyDevs.backendlibrary.base.BaseBody;
+import io.github.GameBuddyDevs.backendlibrary.base.Status;
+import io.github.GameBuddyDevs.backendlibrary.enums.TransactionCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * JSON serialization of a full {@link UserInfoResponse}, with {@code sectionSize} entries in every section, using an
+ * object mapper configured like the one Spring Boot gives the message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserInfoSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int sectionSize;
+
+    private ObjectMapper objectMapper;
+    private UserInfoResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        UserInfoResponseBody body = new UserInfoResponseBody();
+        body.setUsername("gamer");
+        body.setEmail("gamer@gamebuddy.com");
+        body.setAge("25");
+        body.setCountry("Turkey");
+        body.setAvatar("avatar-1");
+        body.setGender("F");
+        body.setCoin(1500);
+        List<GamesDto> games = new ArrayList<>();
+        List<KeywordsDto> keywords = new ArrayList<>();
+        List<Achievements> achievements = new ArrayList<>();
+        List<CommunityDto> communities = new ArrayList<>();
+        List<GamerDto> friends = new ArrayList<>();
+        for (int i = 0; i < sectionSize; i++) {
+            GamesDto game = new GamesDto();
+            game.setGameId("game-" + i);
+            game.setGameName("Game " + i);
+            game.setGameIcon("icon-" + i);
+            game.setCategory("Strategy");
+            game.setAvgVote(4.2f);
+            game.setDescription("Description of game " + i);
+            games.add(game);
+            KeywordsDto keyword = new KeywordsDto();
+            keyword.setId(UUID.randomUUID());
+            keyword.setKeywordName("Keyword " + i);
+            keyword.setDescription("Description of keyword " + i);
+            keywords.add(keyword);
+            achievements.add(new Achievements(UUID.randomUUID(), "Achievement " + i, 100, "Description " + i));
+            communities.add(new CommunityDto("community-" + i, "Community " + i, "avatar-" + i, i == 0));
+            friends.add(new GamerDto("user-" + i, "friend" + i, 20 + i % 20, "Germany", "avatar-" + i));
+        }
+        body.setGames(games);
+        body.setKeywords(keywords);
+        body.setAchievements(achievements);
+        body.setJoinedCommunities(communities);
+        body.setFriends(friends);
+        body.setIncompleteSections(List.of());
+
+        response = new UserInfoResponse();
+        response.setBody(new BaseBody<>(body));
+        response.setStatus(new Status(TransactionCode.DEFAULT_100));
+    }
+
+    @Benchmark
+    public byte[] serializeUserInfo() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -1,15 +1,22 @@
 package com.back2261.applicationservice.application.controller;
 
+import com.back2261.applicationservice.config.QueryBudget;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.domain.model.UserInfoSection;
 import com.back2261.applicationservice.domain.service.ApplicationService;
+import com.back2261.applicationservice.domain.service.CatalogSnapshot;
+import com.back2261.applicationservice.interfaces.request.BulkFriendRequest;
 import com.back2261.applicationservice.interfaces.request.FriendRequest;
 import com.back2261.applicationservice.interfaces.response.*;
 import io.github.GameBuddyDevs.backendlibrary.interfaces.DefaultMessageResponse;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotBlank;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/application")
@@ -17,134 +24,179 @@ import org.springframework.web.bind.annotation.*;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final SerializedResponseCache serializedResponses;
 
-    private static final String AUTHORIZATION = "Authorization";
-    private static final String AUTH_MESSAGE = "Authorization field cannot be empty";
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    private static final String DEFAULT_RESULT_SIZE = "20";
 
+    @QueryBudget(6)
     @GetMapping("/get/user/info/{userId}")
     public ResponseEntity<UserInfoResponse> getUserInfo(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @PathVariable String userId) {
-        return new ResponseEntity<>(applicationService.getUserInfo(userId), HttpStatus.OK);
+            @Valid @PathVariable String userId, @RequestParam(required = false) List<String> fields) {
+        return new ResponseEntity<>(
+                applicationService.getUserInfo(userId, UserInfoSection.fromFields(fields)), HttpStatus.OK);
     }
 
+    @QueryBudget(0)
     @GetMapping("/get/keywords")
-    public ResponseEntity<KeywordsResponse> getKeywords() {
-        return new ResponseEntity<>(applicationService.getKeywords(), HttpStatus.OK);
-    }
-
+    public ResponseEntity<byte[]> getKeywords(
+            WebRequest webRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding) {
+        CatalogSnapshot<KeywordsResponse> keywords = applicationService.getKeywords();
+        String eTag = SerializedResponseCache.matchingETag(webRequest, keywords.eTag());
+        if (eTag != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return serializedResponses.ok("keywords", keywords.response(), keywords.eTag(), encoding);
+    }
+
+    @QueryBudget(0)
     @GetMapping("/get/games")
-    public ResponseEntity<GamesResponse> getGames() {
-        return new ResponseEntity<>(applicationService.getGames(), HttpStatus.OK);
+    public ResponseEntity<byte[]> getGames(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding) {
+        return serializedResponses.ok("games", applicationService.getGames(), encoding);
     }
 
+    @QueryBudget(1)
     @GetMapping("/get/game/{gameId}")
-    public ResponseEntity<GameResponse> getGame(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @PathVariable String gameId) {
+    public ResponseEntity<GameResponse> getGame(@Valid @PathVariable String gameId) {
         return new ResponseEntity<>(applicationService.getGame(gameId), HttpStatus.OK);
     }
 
+    @QueryBudget(0)
+    @GetMapping("/search/games")
+    public ResponseEntity<GamesResponse> searchGames(
+            @RequestParam String query, @RequestParam(defaultValue = DEFAULT_RESULT_SIZE) int size) {
+        return new ResponseEntity<>(applicationService.searchGames(query, size), HttpStatus.OK);
+    }
+
+    @QueryBudget(0)
     @GetMapping("/get/popular/games")
-    public ResponseEntity<GamesResponse> getPopularGames() {
-        return new ResponseEntity<>(applicationService.getPopularGames(), HttpStatus.OK);
+    public ResponseEntity<byte[]> getPopularGames(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding) {
+        return serializedResponses.ok("popularGames", applicationService.getPopularGames(), encoding);
     }
 
+    @QueryBudget(2)
     @GetMapping("/get/avatars")
-    public ResponseEntity<AvatarsResponse> getAvatars(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token) {
-        return new ResponseEntity<>(applicationService.getAvatars(token.substring(7)), HttpStatus.OK);
+    public ResponseEntity<AvatarsResponse> getAvatars(GamerPrincipal principal) {
+        return new ResponseEntity<>(applicationService.getAvatars(principal), HttpStatus.OK);
     }
 
+    @QueryBudget(4)
     @GetMapping("/get/achievements")
-    public ResponseEntity<AchievementResponse> getAchievements(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token) {
-        return new ResponseEntity<>(applicationService.getAchievements(token.substring(7)), HttpStatus.OK);
+    public ResponseEntity<AchievementResponse> getAchievements(GamerPrincipal principal) {
+        return new ResponseEntity<>(applicationService.getAchievements(principal), HttpStatus.OK);
     }
 
+    @QueryBudget(5)
     @PostMapping("/collect/achievement/{achievementId}")
     public ResponseEntity<DefaultMessageResponse> collectAchievement(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @PathVariable String achievementId) {
-        return new ResponseEntity<>(
-                applicationService.collectAchievement(token.substring(7), achievementId), HttpStatus.OK);
+            GamerPrincipal principal, @Valid @PathVariable String achievementId) {
+        return new ResponseEntity<>(applicationService.collectAchievement(principal, achievementId), HttpStatus.OK);
     }
 
+    @QueryBudget(0)
     @GetMapping("/get/marketplace")
-    public ResponseEntity<MarketplaceResponse> getMarketplace() {
-        return new ResponseEntity<>(applicationService.getMarketplace(), HttpStatus.OK);
+    public ResponseEntity<byte[]> getMarketplace(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding) {
+        return serializedResponses.ok("marketplace", applicationService.getMarketplace(), encoding);
     }
 
+    @QueryBudget(3)
     @PostMapping("/buy/item/{itemId}")
     public ResponseEntity<DefaultMessageResponse> buyItem(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @PathVariable String itemId) {
-        return new ResponseEntity<>(applicationService.buyItem(token.substring(7), itemId), HttpStatus.OK);
+            GamerPrincipal principal, @Valid @PathVariable String itemId) {
+        return new ResponseEntity<>(applicationService.buyItem(principal, itemId), HttpStatus.OK);
     }
 
+    @QueryBudget(1)
     @GetMapping("/get/friends")
     public ResponseEntity<FriendsResponse> getFriends(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token) {
-        return new ResponseEntity<>(applicationService.getFriends(token.substring(7)), HttpStatus.OK);
+            GamerPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return new ResponseEntity<>(applicationService.getFriends(principal, cursor, size), HttpStatus.OK);
+    }
+
+    @QueryBudget(2)
+    @GetMapping("/get/mutual/friends/{userId}")
+    public ResponseEntity<FriendsResponse> getMutualFriends(GamerPrincipal principal, @PathVariable String userId) {
+        return new ResponseEntity<>(applicationService.getMutualFriends(userId, principal), HttpStatus.OK);
     }
 
+    @QueryBudget(3)
+    @GetMapping("/get/buddy/suggestions")
+    public ResponseEntity<BuddySuggestionsResponse> getBuddySuggestions(
+            GamerPrincipal principal, @RequestParam(defaultValue = DEFAULT_RESULT_SIZE) int size) {
+        return new ResponseEntity<>(applicationService.getBuddySuggestions(principal, size), HttpStatus.OK);
+    }
+
+    @QueryBudget(1)
     @GetMapping("/get/requests/friends")
     public ResponseEntity<FriendsResponse> getWaitingFriends(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token) {
-        return new ResponseEntity<>(applicationService.getWaitingFriends(token.substring(7)), HttpStatus.OK);
+            GamerPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return new ResponseEntity<>(applicationService.getWaitingFriends(principal, cursor, size), HttpStatus.OK);
     }
 
+    @QueryBudget(1)
     @GetMapping("/get/blocked/friends")
     public ResponseEntity<FriendsResponse> getBlockedFriends(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token) {
-        return new ResponseEntity<>(applicationService.getBlockedFriends(token.substring(7)), HttpStatus.OK);
+            GamerPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        return new ResponseEntity<>(applicationService.getBlockedFriends(principal, cursor, size), HttpStatus.OK);
     }
 
+    @QueryBudget(8)
     @PostMapping("/accept/friend")
     public ResponseEntity<DefaultMessageResponse> addFriend(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @RequestBody FriendRequest addFriendRequest) {
-        return new ResponseEntity<>(
-                applicationService.acceptFriend(addFriendRequest, token.substring(7)), HttpStatus.OK);
+            GamerPrincipal principal, @Valid @RequestBody FriendRequest addFriendRequest) {
+        return new ResponseEntity<>(applicationService.acceptFriend(addFriendRequest, principal), HttpStatus.OK);
     }
 
+    @QueryBudget(2)
     @PostMapping("/reject/friend")
     public ResponseEntity<DefaultMessageResponse> rejectFriend(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @RequestBody FriendRequest addFriendRequest) {
-        return new ResponseEntity<>(
-                applicationService.rejectFriend(addFriendRequest, token.substring(7)), HttpStatus.OK);
+            GamerPrincipal principal, @Valid @RequestBody FriendRequest addFriendRequest) {
+        return new ResponseEntity<>(applicationService.rejectFriend(addFriendRequest, principal), HttpStatus.OK);
     }
 
+    @QueryBudget(3)
     @PostMapping("/remove/friend")
     public ResponseEntity<DefaultMessageResponse> removeFriend(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @RequestBody FriendRequest addFriendRequest) {
-        return new ResponseEntity<>(
-                applicationService.removeFriend(addFriendRequest, token.substring(7)), HttpStatus.OK);
+            GamerPrincipal principal, @Valid @RequestBody FriendRequest addFriendRequest) {
+        return new ResponseEntity<>(applicationService.removeFriend(addFriendRequest, principal), HttpStatus.OK);
     }
 
+    @QueryBudget(8)
     @PostMapping("/block/friend")
     public ResponseEntity<DefaultMessageResponse> blockFriend(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @RequestBody FriendRequest unblockFriendRequest) {
-        return new ResponseEntity<>(
-                applicationService.blockUser(unblockFriendRequest, token.substring(7)), HttpStatus.OK);
+            GamerPrincipal principal, @Valid @RequestBody FriendRequest unblockFriendRequest) {
+        return new ResponseEntity<>(applicationService.blockUser(unblockFriendRequest, principal), HttpStatus.OK);
     }
 
+    @QueryBudget(2)
     @PostMapping("/unblock/friend")
     public ResponseEntity<DefaultMessageResponse> unblockFriend(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @RequestBody FriendRequest blockFriendRequest) {
-        return new ResponseEntity<>(
-                applicationService.unblockUser(blockFriendRequest, token.substring(7)), HttpStatus.OK);
+            GamerPrincipal principal, @Valid @RequestBody FriendRequest blockFriendRequest) {
+        return new ResponseEntity<>(applicationService.unblockUser(blockFriendRequest, principal), HttpStatus.OK);
     }
 
+    @QueryBudget(9)
     @PostMapping("/send/friend")
     public ResponseEntity<DefaultMessageResponse> sendFriendRequest(
-            @Valid @RequestHeader(AUTHORIZATION) @NotBlank(message = AUTH_MESSAGE) String token,
-            @Valid @RequestBody FriendRequest sendFriendRequest) {
+            GamerPrincipal principal, @Valid @RequestBody FriendRequest sendFriendRequest) {
+        return new ResponseEntity<>(applicationService.sendFriendRequest(sendFriendRequest, principal), HttpStatus.OK);
+    }
+
+    @QueryBudget(11)
+    @PostMapping("/bulk/friends")
+    public ResponseEntity<BulkFriendResponse> applyFriendOperations(
+            GamerPrincipal principal, @Valid @RequestBody BulkFriendRequest bulkFriendRequest) {
         return new ResponseEntity<>(
-                applicationService.sendFriendRequest(sendFriendRequest, token.substring(7)), HttpStatus.OK);
+                applicationService.applyFriendOperations(bulkFriendRequest, principal), HttpStatus.OK);
     }
 }
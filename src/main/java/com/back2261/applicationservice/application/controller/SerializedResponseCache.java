@@ -0,0 +1,134 @@
+package com.back2261.applicationservice.application.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Serialized bodies of the catalog responses. The catalogs hand out the same response instance until their content
+ * changes, so each endpoint keeps the JSON and gzipped bytes of the last instance it saw and serializes again only when
+ * a new one shows up. Requests are answered with the stored bytes and headers as they are. The gzipped bytes carry
+ * their own strong ETag, {@code "<etag>-gzip"}, because they are a different representation than the JSON.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(Object response, ResponseEntity<byte[]> json, ResponseEntity<byte[]> gzip) {}
+
+    public SerializedResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ResponseEntity<byte[]> ok(String endpoint, Object response, String acceptEncoding) {
+        return ok(endpoint, response, null, acceptEncoding);
+    }
+
+    /**
+     * Returns {@code response} as JSON, gzipped when {@code acceptEncoding} allows it. Concurrent requests may both
+     * serialize a new instance; the results are identical, so whichever is stored last wins.
+     */
+    public ResponseEntity<byte[]> ok(String endpoint, Object response, String eTag, String acceptEncoding) {
+        Entry entry = entries.get(endpoint);
+        if (entry == null || entry.response() != response) {
+            entry = serialize(response, eTag);
+            entries.put(endpoint, entry);
+        }
+        return acceptsGzip(acceptEncoding) ? entry.gzip() : entry.json();
+    }
+
+    /**
+     * The validator of {@code eTag} that the request's {@code If-None-Match} names, either the JSON or the gzip one,
+     * or {@code null} when it names neither and the body has to be sent. A client keeps whichever of the two it was
+     * sent, so both count as a match; weak comparison is used, as for any {@code If-None-Match}.
+     */
+    public static String matchingETag(WebRequest webRequest, String eTag) {
+        String gzipETag = gzipETag(eTag);
+        String[] ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        for (String value : ifNoneMatch) {
+            for (String candidate : value.split(",")) {
+                String tag = candidate.trim();
+                tag = tag.startsWith("W/") ? tag.substring(2) : tag;
+                if (tag.equals(eTag) || tag.equals("*")) {
+                    return eTag;
+                }
+                if (tag.equals(gzipETag)) {
+                    return gzipETag;
+                }
+            }
+        }
+        return null;
+    }
+
+    static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    private Entry serialize(Object response, String eTag) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Could not serialize " + response.getClass().getSimpleName(), e);
+        }
+        HttpHeaders jsonHeaders = headers(eTag);
+        HttpHeaders gzipHeaders = headers(eTag == null ? null : gzipETag(eTag));
+        gzipHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return new Entry(
+                response,
+                new ResponseEntity<>(json, HttpHeaders.readOnlyHttpHeaders(jsonHeaders), HttpStatus.OK),
+                new ResponseEntity<>(gzip(json), HttpHeaders.readOnlyHttpHeaders(gzipHeaders), HttpStatus.OK));
+    }
+
+    private static HttpHeaders headers(String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+        return headers;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // A coding listed with q=0 is explicitly refused.
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equals("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
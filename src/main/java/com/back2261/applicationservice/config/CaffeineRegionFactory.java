@@ -0,0 +1,117 @@
+package com.back2261.applicationservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Hibernate second-level cache kept in per-region Caffeine caches. Entity regions hold small reference tables and
+ * collection regions hold one entry per gamer, so each kind has its own size bound and expiry; the expiry also bounds
+ * how long a change written by another service can go unnoticed. Every region reports its hits, misses, evictions
+ * and size as the Micrometer {@code cache.*} meters, tagged with the region name.
+ *
+ * <p>{@code hibernate-jcache} with Caffeine's JCache provider would need both limits repeated per region in a separate
+ * {@code application.conf} and would expose statistics through JMX rather than the meter registry, so the regions are
+ * built here on Hibernate's {@link RegionFactoryTemplate}, which already implements the read-write locking.
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    public static final String CACHE_MANAGER = "hibernate";
+
+    private final MeterRegistry meterRegistry;
+    private final Limits entityLimits;
+    private final Limits collectionLimits;
+
+    public CaffeineRegionFactory(MeterRegistry meterRegistry, Limits entityLimits, Limits collectionLimits) {
+        this.meterRegistry = meterRegistry;
+        this.entityLimits = entityLimits;
+        this.collectionLimits = collectionLimits;
+    }
+
+    public record Limits(long maxSize, Duration ttl) {}
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        // Regions are created as Hibernate builds them; there is no shared cache manager to start.
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // Each region is released with the session factory that built it.
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        Limits limits = regionConfig.getCollectionCaching().isEmpty() ? entityLimits : collectionLimits;
+        return new CaffeineStorageAccess(regionConfig.getRegionName(), limits);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(
+            String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(regionName, entityLimits);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(
+            String regionName, SessionFactoryImplementor sessionFactory) {
+        // Update timestamps must outlive every cached query result, so they are neither bounded nor expired.
+        return new CaffeineStorageAccess(regionName, null);
+    }
+
+    private final class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+        private final Cache<Object, Object> cache;
+
+        private CaffeineStorageAccess(String regionName, Limits limits) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+            if (limits != null) {
+                builder.maximumSize(limits.maxSize()).expireAfterWrite(limits.ttl());
+            }
+            this.cache = builder.build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, regionName, "cache.manager", CACHE_MANAGER);
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+}
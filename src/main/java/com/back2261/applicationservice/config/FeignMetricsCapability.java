@@ -0,0 +1,62 @@
+package com.back2261.applicationservice.config;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every Feign call as {@code feign.client.requests}, tagged with the client, the interface method and the
+ * response status, or {@code IO_ERROR} when no response came back. Spring Cloud OpenFeign adds {@link Capability}
+ * beans to every client it builds.
+ */
+@Component
+public class FeignMetricsCapability implements Capability {
+
+    static final String METRIC_NAME = "feign.client.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    public FeignMetricsCapability(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String status = "IO_ERROR";
+            try {
+                Response response = client.execute(request, options);
+                status = String.valueOf(response.status());
+                return response;
+            } finally {
+                sample.stop(Timer.builder(METRIC_NAME)
+                        .description("Latency of calls to other services")
+                        .tag("client", clientName(request))
+                        .tag("method", methodName(request))
+                        .tag("status", status)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+        };
+    }
+
+    private static String clientName(Request request) {
+        RequestTemplate template = request.requestTemplate();
+        return template == null || template.feignTarget() == null
+                ? "unknown"
+                : template.feignTarget().name();
+    }
+
+    private static String methodName(Request request) {
+        RequestTemplate template = request.requestTemplate();
+        return template == null || template.methodMetadata() == null
+                ? "unknown"
+                : template.methodMetadata().configKey();
+    }
+}
@@ -0,0 +1,80 @@
+package com.back2261.applicationservice.config;
+
+import com.back2261.applicationservice.domain.event.AchievementCollectedEvent;
+import com.back2261.applicationservice.domain.event.ItemBoughtEvent;
+import com.back2261.applicationservice.infrastructure.entity.Gamer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.util.Arrays;
+import org.hibernate.Cache;
+import org.hibernate.CacheMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Looks up, preloads and evicts a gamer's associations in the second-level cache. Hibernate keeps a cached association
+ * in step with changes made through the association itself, but not with rows inserted through the join table
+ * entities, so those are evicted here once the insert commits. Always answers {@code false} when the cache is
+ * disabled.
+ */
+@Component
+public class GamerCollectionCache {
+
+    private final Cache cache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public GamerCollectionCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /** @param attribute name of the {@link Gamer} collection attribute, e.g. {@code likedgames} */
+    public boolean contains(String attribute, String userId) {
+        return cache.containsCollection(role(attribute), userId);
+    }
+
+    /**
+     * Loads the elements of a cached collection into the current persistence context, fetching the ones no longer in
+     * their own region with a single statement. Hibernate resolves the elements of a cached collection one at a time
+     * and does not batch them, so without this every element evicted before its collection costs a query of its own.
+     */
+    public void loadElements(String attribute, String userId) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor sessionFactory = session.getFactory();
+        CollectionPersister persister =
+                sessionFactory.getRuntimeMetamodels().getMappingMetamodel().getCollectionDescriptor(role(attribute));
+        CollectionDataAccess access = persister.getCacheAccessStrategy();
+        if (access == null) {
+            return;
+        }
+        Object key = access.generateCacheKey(userId, persister, sessionFactory, session.getTenantIdentifier());
+        if (access.get(session, key) instanceof CollectionCacheEntry entry && entry.getState().length > 0) {
+            session.byMultipleIds(persister.getElementType().getReturnedClass())
+                    .with(CacheMode.NORMAL)
+                    .enableSessionCheck(true)
+                    .multiLoad(Arrays.asList(entry.getState()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemBought(ItemBoughtEvent event) {
+        cache.evictCollectionData(role("boughtAvatars"), event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAchievementCollected(AchievementCollectedEvent event) {
+        cache.evictCollectionData(role("gamerCollectedAchievements"), event.userId());
+    }
+
+    private static String role(String attribute) {
+        return Gamer.class.getName() + "." + attribute;
+    }
+}
@@ -0,0 +1,60 @@
+package com.back2261.applicationservice.config;
+
+import com.back2261.applicationservice.domain.event.GamerChangedEvent;
+import com.back2261.applicationservice.domain.event.GamerRemovedEvent;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.GameBuddyDevs.backendlibrary.enums.TransactionCode;
+import io.github.GameBuddyDevs.backendlibrary.exception.BusinessException;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Short-lived cache of {@link GamerPrincipal}s keyed by email, so authenticating a request does not hit the database.
+ * Entries expire after {@code security.principal-cache.ttl}, which bounds how long a change made by another service
+ * can go unnoticed; changes made through this service evict the entry as soon as they commit.
+ */
+@Component
+public class PrincipalCache {
+
+    private final GamerRepository gamerRepository;
+    private final Cache<String, GamerPrincipal> principals;
+
+    public PrincipalCache(
+            GamerRepository gamerRepository,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl:30s}") Duration ttl) {
+        this.gamerRepository = gamerRepository;
+        this.principals =
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+    }
+
+    public GamerPrincipal get(String email) {
+        GamerPrincipal principal = principals.get(
+                email, key -> gamerRepository.findPrincipalByEmail(key).orElse(null));
+        if (principal == null) {
+            throw new BusinessException(TransactionCode.USER_NOT_FOUND);
+        }
+        return principal;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamerChanged(GamerChangedEvent event) {
+        GamerPrincipal cached = principals.getIfPresent(event.email());
+        if (cached != null
+                && (!Objects.equals(cached.userId(), event.userId())
+                        || !Objects.equals(cached.isBlocked(), event.isBlocked()))) {
+            principals.invalidate(event.email());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamerRemoved(GamerRemovedEvent event) {
+        principals.invalidate(event.email());
+    }
+}
@@ -0,0 +1,21 @@
+package com.back2261.applicationservice.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many JDBC statements a handler may execute. The budget is enforced by {@link QueryBudgetAspect}, and
+ * should be the count measured for the handler's worst case, so that a regression such as an N+1 query shows up as
+ * soon as it is introduced.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /** The most statements the handler may execute. */
+    int value();
+}
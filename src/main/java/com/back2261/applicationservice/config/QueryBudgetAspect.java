@@ -0,0 +1,77 @@
+package com.back2261.applicationservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enforces {@link QueryBudget} on the handlers that declare one. The statements are counted with {@link QueryCounter},
+ * reusing the counts of the current request when {@link QueryMetricsFilter} has started them. A handler over its
+ * budget is reported according to {@code query-budget.mode}: {@code log} warns and increments
+ * {@code query.budget.exceeded} so staging can alert on it, {@code fail} throws so the integration tests fail, and
+ * {@code off} skips the check.
+ */
+@Slf4j
+@Aspect
+@Component
+public class QueryBudgetAspect {
+
+    static final String METRIC_NAME = "query.budget.exceeded";
+
+    public enum Mode {
+        OFF,
+        LOG,
+        FAIL
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+
+    public QueryBudgetAspect(MeterRegistry meterRegistry, @Value("${query-budget.mode:log}") Mode mode) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+    }
+
+    @Around("@annotation(budget)")
+    public Object enforce(ProceedingJoinPoint joinPoint, QueryBudget budget) throws Throwable {
+        if (mode == Mode.OFF) {
+            return joinPoint.proceed();
+        }
+        QueryCounter.Counts counts = QueryCounter.current();
+        boolean started = counts == null;
+        if (started) {
+            counts = QueryCounter.start();
+        }
+        int before = counts.statements();
+        try {
+            Object result = joinPoint.proceed();
+            check(joinPoint.getSignature().getName(), counts.statements() - before, budget.value());
+            return result;
+        } finally {
+            if (started) {
+                QueryCounter.stop();
+            }
+        }
+    }
+
+    private void check(String handler, int statements, int budget) {
+        if (statements <= budget) {
+            return;
+        }
+        String message = handler + " executed " + statements + " statements, over its budget of " + budget;
+        Counter.builder(METRIC_NAME)
+                .description("Requests that executed more statements than their handler's query budget")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .increment();
+        if (mode == Mode.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
@@ -0,0 +1,130 @@
+package com.back2261.applicationservice.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Counts the Hibernate work done for the current request: JDBC statements, entity loads and collection fetches.
+ * Counting starts with {@link #start()} on the request thread, and work handed to another thread is counted when it
+ * is wrapped with {@link #propagate(Supplier)}. The Hibernate hooks are registered by {@link QueryCountingConfig} and
+ * do nothing on threads that are not counting.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {}
+
+    public static final class Counts {
+
+        private final AtomicInteger statements = new AtomicInteger();
+        private final AtomicInteger entityLoads = new AtomicInteger();
+        private final AtomicInteger collectionFetches = new AtomicInteger();
+
+        public int statements() {
+            return statements.get();
+        }
+
+        public int entityLoads() {
+            return entityLoads.get();
+        }
+
+        public int collectionFetches() {
+            return collectionFetches.get();
+        }
+    }
+
+    public static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /** Returns the counts of the current thread, or {@code null} when it is not counting. */
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    /** Wraps {@code supplier} so the work it does on another thread is added to the caller's counts. */
+    public static <T> Supplier<T> propagate(Supplier<T> supplier) {
+        Counts counts = CURRENT.get();
+        if (counts == null) {
+            return supplier;
+        }
+        return () -> {
+            Counts previous = CURRENT.get();
+            CURRENT.set(counts);
+            try {
+                return supplier.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    static final class StatementCounter implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            Counts counts = CURRENT.get();
+            if (counts != null) {
+                counts.statements.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+
+    static final class LoadCounter implements Integrator, PostLoadEventListener, InitializeCollectionEventListener {
+
+        @Override
+        public void integrate(
+                Metadata metadata,
+                SessionFactoryImplementor sessionFactory,
+                SessionFactoryServiceRegistry serviceRegistry) {
+            EventListenerRegistry listeners = serviceRegistry.getService(EventListenerRegistry.class);
+            listeners.appendListeners(EventType.POST_LOAD, this);
+            listeners.appendListeners(EventType.INIT_COLLECTION, this);
+        }
+
+        @Override
+        public void disintegrate(
+                SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            // Listeners go away with the session factory.
+        }
+
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            Counts counts = CURRENT.get();
+            if (counts != null) {
+                counts.entityLoads.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) {
+            Counts counts = CURRENT.get();
+            if (counts != null) {
+                counts.collectionFetches.incrementAndGet();
+            }
+        }
+    }
+}
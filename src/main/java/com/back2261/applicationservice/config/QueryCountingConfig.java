@@ -0,0 +1,23 @@
+package com.back2261.applicationservice.config;
+
+import java.util.List;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Registers the {@link QueryCounter} hooks with the Hibernate session factory. */
+@Configuration
+public class QueryCountingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter.StatementCounter());
+            properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, (IntegratorProvider)
+                    () -> List.of(new QueryCounter.LoadCounter()));
+        };
+    }
+}
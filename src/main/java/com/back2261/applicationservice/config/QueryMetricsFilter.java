@@ -0,0 +1,68 @@
+package com.back2261.applicationservice.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many statements, entity loads and collection fetches each request needed, tagged with the endpoint's
+ * URI template. Runs ahead of the security filters so the principal lookup is counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Counts counts = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.stop();
+            Tags tags = Tags.of("method", request.getMethod(), "uri", endpoint(request));
+            record("hibernate.request.statements", "JDBC statements executed per request", tags, counts.statements());
+            record("hibernate.request.entity.loads", "Entities loaded per request", tags, counts.entityLoads());
+            record(
+                    "hibernate.request.collection.fetches",
+                    "Collections initialized per request",
+                    tags,
+                    counts.collectionFetches());
+        }
+    }
+
+    private void record(String name, String description, Tags tags, int count) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    // Requests that did not reach a handler are grouped together, so unknown paths cannot blow up the tag values.
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
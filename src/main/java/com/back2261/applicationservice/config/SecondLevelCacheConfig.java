@@ -0,0 +1,41 @@
+package com.back2261.applicationservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Enables the Hibernate second-level cache for the entities and collections annotated with {@code @Cache}. */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public CaffeineRegionFactory caffeineRegionFactory(
+            MeterRegistry meterRegistry,
+            @Value("${second-level-cache.entity.max-size:10000}") long entityMaxSize,
+            @Value("${second-level-cache.entity.ttl:10m}") Duration entityTtl,
+            @Value("${second-level-cache.collection.max-size:100000}") long collectionMaxSize,
+            @Value("${second-level-cache.collection.ttl:60s}") Duration collectionTtl) {
+        // A cached collection only holds element ids, so its elements must stay cached at least as long as it does.
+        if (entityTtl.compareTo(collectionTtl) < 0) {
+            throw new IllegalStateException("second-level-cache.entity.ttl (" + entityTtl
+                    + ") must not be shorter than second-level-cache.collection.ttl (" + collectionTtl + ")");
+        }
+        return new CaffeineRegionFactory(
+                meterRegistry,
+                new CaffeineRegionFactory.Limits(entityMaxSize, entityTtl),
+                new CaffeineRegionFactory.Limits(collectionMaxSize, collectionTtl));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(
+            CaffeineRegionFactory regionFactory) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
+        };
+    }
+}
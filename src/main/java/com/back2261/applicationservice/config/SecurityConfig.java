@@ -33,7 +33,10 @@ public class SecurityConfig {
                         "/application/get/games",
                         "/application/get/marketplace",
                         "/application/get/popular/games",
-                        "/actuator/**")
+                        "/application/search/games")
+                .permitAll()
+                // Metrics reveal per-endpoint latency and query counts, so only health and info are public.
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info")
                 .permitAll()
                 .requestMatchers("/api-docs/**", "/api-docs.yaml", "/swagger-ui/**", "/swagger-ui.html")
                 .permitAll()
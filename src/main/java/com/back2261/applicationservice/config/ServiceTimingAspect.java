@@ -0,0 +1,44 @@
+package com.back2261.applicationservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every {@code ApplicationService} call as {@code application.service}, tagged with the method and the
+ * exception it ended with, and publishes a histogram so latency percentiles can be aggregated across instances.
+ */
+@Aspect
+@Component
+public class ServiceTimingAspect {
+
+    static final String METRIC_NAME = "application.service";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.back2261.applicationservice.domain.service.ApplicationService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Latency of ApplicationService calls")
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
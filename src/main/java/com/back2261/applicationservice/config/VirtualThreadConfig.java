@@ -0,0 +1,57 @@
+package com.back2261.applicationservice.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+/**
+ * Opt-in execution mode that runs blocking work on virtual threads instead of platform thread pools: Tomcat request
+ * handling, {@code @Async} listeners and notification delivery. Virtual threads need a Java 21 runtime; the Java 17
+ * build runs on one unchanged, and enabling the mode on an older runtime fails at startup.
+ */
+@Configuration
+@ConditionalOnProperty(name = "execution.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    public static final String EXECUTOR_BEAN_NAME = "virtualThreadExecutor";
+
+    @Bean(EXECUTOR_BEAN_NAME)
+    public ExecutorService virtualThreadExecutor() {
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+            @Qualifier(EXECUTOR_BEAN_NAME) ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean({
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor(
+            @Qualifier(EXECUTOR_BEAN_NAME) ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    // The build targets Java 17, so the Java 21 factory method is looked up at runtime.
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Virtual threads need Java 21 or newer, the service runs on Java " + Runtime.version(), e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.back2261.applicationservice.domain.event;
+
+import java.util.UUID;
+
+/** Published when a gamer collects the coins of an earned achievement. */
+public record AchievementCollectedEvent(String userId, UUID achievementId) implements AchievementEvent {}
@@ -0,0 +1,7 @@
+package com.back2261.applicationservice.domain.event;
+
+/** A gamer action that may unlock achievements for {@link #userId()}. */
+public sealed interface AchievementEvent permits ItemBoughtEvent, FriendAddedEvent, AchievementCollectedEvent {
+
+    String userId();
+}
@@ -0,0 +1,4 @@
+package com.back2261.applicationservice.domain.event;
+
+/** Published for each side of a friendship once a friend request is accepted. */
+public record FriendAddedEvent(String userId, String friendId) implements AchievementEvent {}
@@ -0,0 +1,4 @@
+package com.back2261.applicationservice.domain.event;
+
+/** Published for each side of a friendship once it is removed. */
+public record FriendRemovedEvent(String userId, String friendId) {}
@@ -0,0 +1,4 @@
+package com.back2261.applicationservice.domain.event;
+
+/** Published after a gamer row is updated or deleted, with the values it was written with. */
+public record GamerChangedEvent(String userId, String email, Boolean isBlocked) {}
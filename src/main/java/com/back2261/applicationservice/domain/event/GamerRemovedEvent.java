@@ -0,0 +1,4 @@
+package com.back2261.applicationservice.domain.event;
+
+/** Published after a gamer row is deleted. */
+public record GamerRemovedEvent(String userId, String email) {}
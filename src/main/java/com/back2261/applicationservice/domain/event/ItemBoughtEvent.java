@@ -0,0 +1,6 @@
+package com.back2261.applicationservice.domain.event;
+
+import java.util.UUID;
+
+/** Published when a gamer buys a special avatar from the marketplace. */
+public record ItemBoughtEvent(String userId, UUID avatarId) implements AchievementEvent {}
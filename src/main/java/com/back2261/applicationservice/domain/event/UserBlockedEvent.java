@@ -0,0 +1,4 @@
+package com.back2261.applicationservice.domain.event;
+
+/** Published when {@code userId} blocks {@code blockedId}; any friendship between them is removed with it. */
+public record UserBlockedEvent(String userId, String blockedId) {}
@@ -0,0 +1,4 @@
+package com.back2261.applicationservice.domain.event;
+
+/** Published when {@code userId} unblocks {@code blockedId}. */
+public record UserUnblockedEvent(String userId, String blockedId) {}
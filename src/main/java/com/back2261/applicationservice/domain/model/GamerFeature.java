@@ -0,0 +1,4 @@
+package com.back2261.applicationservice.domain.model;
+
+/** One keyword or liked game of a gamer, read in bulk to build the buddy suggestion index. */
+public record GamerFeature(String userId, String featureId) {}
@@ -0,0 +1,4 @@
+package com.back2261.applicationservice.domain.model;
+
+/** One row of the friends or blocked_friends table, read in bulk to build the friend graph. */
+public record GamerPair(String userId, String otherId) {}
@@ -0,0 +1,50 @@
+package com.back2261.applicationservice.domain.model;
+
+import java.util.*;
+
+/** The optional, collection valued sections of the user info response, named after their JSON fields. */
+public enum UserInfoSection {
+    GAMES("games"),
+    KEYWORDS("keywords"),
+    ACHIEVEMENTS("achievements"),
+    JOINED_COMMUNITIES("joinedCommunities"),
+    FRIENDS("friends");
+
+    // Always returned, so they are accepted in a field list but select nothing.
+    private static final Set<String> HEADER_FIELDS =
+            Set.of("username", "email", "age", "country", "avatar", "gender", "coin");
+
+    private final String field;
+
+    UserInfoSection(String field) {
+        this.field = field;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public static Set<UserInfoSection> all() {
+        return EnumSet.allOf(UserInfoSection.class);
+    }
+
+    /** Resolves the requested field names to sections; no field list at all means every section. */
+    public static Set<UserInfoSection> fromFields(Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return all();
+        }
+        Set<UserInfoSection> sections = EnumSet.noneOf(UserInfoSection.class);
+        for (String field : fields) {
+            String name = field.trim();
+            Optional<UserInfoSection> section = Arrays.stream(values())
+                    .filter(value -> value.field.equalsIgnoreCase(name))
+                    .findFirst();
+            if (section.isPresent()) {
+                sections.add(section.get());
+            } else if (!HEADER_FIELDS.contains(name.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Unknown user info field: " + name);
+            }
+        }
+        return sections;
+    }
+}
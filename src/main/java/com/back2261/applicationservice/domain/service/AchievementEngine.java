@@ -0,0 +1,113 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.domain.event.AchievementEvent;
+import com.back2261.applicationservice.domain.event.FriendAddedEvent;
+import com.back2261.applicationservice.domain.event.ItemBoughtEvent;
+import com.back2261.applicationservice.infrastructure.entity.Achievements;
+import com.back2261.applicationservice.infrastructure.entity.Gamer;
+import com.back2261.applicationservice.infrastructure.repository.AchievementsRepository;
+import com.back2261.applicationservice.infrastructure.repository.EarnedAchievementRepository;
+import com.back2261.applicationservice.infrastructure.repository.FriendRepository;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
+import io.github.GameBuddyDevs.backendlibrary.util.Constants;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Awards achievements in reaction to {@link AchievementEvent}s. Rules are grouped by the event type that can unlock
+ * them when the engine is created, and are evaluated asynchronously after the publishing transaction commits, so
+ * request handlers never pay for the counter queries. An award only inserts the join row and never updates the gamer,
+ * so it cannot conflict with the purchases and friend changes of the same gamer that run meanwhile.
+ */
+@Slf4j
+@Component
+public class AchievementEngine {
+
+    static final String RICH_IN_THE_HOOD = "Rich in the hood!!!";
+    static final String FRIENDLY_PERSON = "Friendly Person!!!";
+
+    private final GamerRepository gamerRepository;
+    private final AchievementsRepository achievementsRepository;
+    private final EarnedAchievementRepository earnedAchievementRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Class<? extends AchievementEvent>, List<Rule>> rules;
+
+    public AchievementEngine(
+            GamerRepository gamerRepository,
+            FriendRepository friendRepository,
+            AchievementsRepository achievementsRepository,
+            EarnedAchievementRepository earnedAchievementRepository,
+            NotificationOutbox notificationOutbox,
+            PlatformTransactionManager transactionManager) {
+        this.gamerRepository = gamerRepository;
+        this.achievementsRepository = achievementsRepository;
+        this.earnedAchievementRepository = earnedAchievementRepository;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rules = Map.of(
+                ItemBoughtEvent.class, List.of(new Rule(RICH_IN_THE_HOOD, gamerRepository::countBoughtAvatars, 3)),
+                FriendAddedEvent.class, List.of(new Rule(FRIENDLY_PERSON, friendRepository::countByUserId, 1)));
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAchievementEvent(AchievementEvent event) {
+        evaluate(event);
+    }
+
+    void evaluate(AchievementEvent event) {
+        List<Rule> candidates = rules.getOrDefault(event.getClass(), List.of());
+        if (candidates.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> award(event.userId(), candidates));
+    }
+
+    private void award(String userId, List<Rule> candidates) {
+        Gamer gamer = gamerRepository.findById(userId).orElse(null);
+        if (gamer == null) {
+            return;
+        }
+        Set<String> earned = gamer.getGamerEarnedAchievements().stream()
+                .map(Achievements::getAchievementName)
+                .collect(Collectors.toSet());
+        for (Rule rule : candidates) {
+            if (earned.contains(rule.achievementName()) || rule.counter().applyAsLong(userId) < rule.threshold()) {
+                continue;
+            }
+            achievementsRepository
+                    .findByAchievementName(rule.achievementName())
+                    .ifPresentOrElse(
+                            achievement -> earn(gamer, achievement),
+                            () -> log.warn("Achievement {} is not defined", rule.achievementName()));
+        }
+    }
+
+    // The earned check is repeated in the insert, so an evaluation that raced past the one above does not award twice.
+    // Two evaluations inserting at the same moment collide on the primary key; the one that fails rolls back and the
+    // other sends the notification.
+    private void earn(Gamer gamer, Achievements achievement) {
+        if (earnedAchievementRepository.insertIfNotEarned(gamer.getUserId(), achievement.getId()) == 0) {
+            return;
+        }
+        SendNotificationTokenRequest tokenRequest = new SendNotificationTokenRequest();
+        tokenRequest.setToken(gamer.getFcmToken());
+        tokenRequest.setTitle(Constants.ACHIEVEMENT_TITLE);
+        tokenRequest.setBody(String.format(Constants.ACHIEVEMENT_BODY, achievement.getAchievementName()));
+        notificationOutbox.enqueue(tokenRequest);
+    }
+
+    /** Awards {@code achievementName} once {@code counter} reaches {@code threshold} for the gamer. */
+    record Rule(String achievementName, ToLongFunction<String> counter, long threshold) {}
+}
@@ -1,14 +1,18 @@
 package com.back2261.applicationservice.domain.service;
 
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.domain.model.UserInfoSection;
+import com.back2261.applicationservice.interfaces.request.BulkFriendRequest;
 import com.back2261.applicationservice.interfaces.request.FriendRequest;
 import com.back2261.applicationservice.interfaces.response.*;
 import io.github.GameBuddyDevs.backendlibrary.interfaces.DefaultMessageResponse;
+import java.util.Set;
 
 public interface ApplicationService {
 
-    UserInfoResponse getUserInfo(String userId);
+    UserInfoResponse getUserInfo(String userId, Set<UserInfoSection> sections);
 
-    KeywordsResponse getKeywords();
+    CatalogSnapshot<KeywordsResponse> getKeywords();
 
     GamesResponse getGames();
 
@@ -16,31 +20,39 @@ public interface ApplicationService {
 
     GamesResponse getPopularGames();
 
-    AvatarsResponse getAvatars(String token);
+    GamesResponse searchGames(String query, int size);
 
-    AchievementResponse getAchievements(String token);
+    AvatarsResponse getAvatars(GamerPrincipal principal);
 
-    DefaultMessageResponse collectAchievement(String token, String achievementId);
+    AchievementResponse getAchievements(GamerPrincipal principal);
+
+    DefaultMessageResponse collectAchievement(GamerPrincipal principal, String achievementId);
 
     MarketplaceResponse getMarketplace();
 
-    DefaultMessageResponse buyItem(String token, String itemId);
+    DefaultMessageResponse buyItem(GamerPrincipal principal, String itemId);
+
+    FriendsResponse getFriends(GamerPrincipal principal, String cursor, int size);
+
+    FriendsResponse getMutualFriends(String userId, GamerPrincipal principal);
+
+    BuddySuggestionsResponse getBuddySuggestions(GamerPrincipal principal, int size);
 
-    FriendsResponse getFriends(String token);
+    FriendsResponse getWaitingFriends(GamerPrincipal principal, String cursor, int size);
 
-    FriendsResponse getWaitingFriends(String token);
+    FriendsResponse getBlockedFriends(GamerPrincipal principal, String cursor, int size);
 
-    FriendsResponse getBlockedFriends(String token);
+    DefaultMessageResponse acceptFriend(FriendRequest addFriendRequest, GamerPrincipal principal);
 
-    DefaultMessageResponse acceptFriend(FriendRequest addFriendRequest, String token);
+    DefaultMessageResponse rejectFriend(FriendRequest rejectFriendRequest, GamerPrincipal principal);
 
-    DefaultMessageResponse rejectFriend(FriendRequest rejectFriendRequest, String token);
+    DefaultMessageResponse removeFriend(FriendRequest removeFriendRequest, GamerPrincipal principal);
 
-    DefaultMessageResponse removeFriend(FriendRequest removeFriendRequest, String token);
+    DefaultMessageResponse blockUser(FriendRequest blockFriendRequest, GamerPrincipal principal);
 
-    DefaultMessageResponse blockUser(FriendRequest blockFriendRequest, String token);
+    DefaultMessageResponse unblockUser(FriendRequest unblockFriendRequest, GamerPrincipal principal);
 
-    DefaultMessageResponse unblockUser(FriendRequest unblockFriendRequest, String token);
+    DefaultMessageResponse sendFriendRequest(FriendRequest sendFriendRequest, GamerPrincipal principal);
 
-    DefaultMessageResponse sendFriendRequest(FriendRequest sendFriendRequest, String token);
+    BulkFriendResponse applyFriendOperations(BulkFriendRequest bulkFriendRequest, GamerPrincipal principal);
 }
@@ -0,0 +1,80 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.infrastructure.entity.Avatars;
+import com.back2261.applicationservice.infrastructure.repository.AvatarsRepository;
+import com.back2261.applicationservice.interfaces.dto.MarketplaceResponseBody;
+import com.back2261.applicationservice.interfaces.dto.SpecialAvatarsDto;
+import com.back2261.applicationservice.interfaces.response.MarketplaceResponse;
+import io.github.GameBuddyDevs.backendlibrary.base.BaseBody;
+import io.github.GameBuddyDevs.backendlibrary.base.Status;
+import io.github.GameBuddyDevs.backendlibrary.enums.TransactionCode;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Avatars are only written by other services, so the catalog picks up their changes on the scheduled refresh of
+ * {@code catalog.refresh-interval}.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvatarCatalog extends RefreshableCatalog<AvatarCatalog.Snapshot> {
+
+    private final AvatarsRepository avatarsRepository;
+
+    public record Snapshot(
+            Map<UUID, Avatars> avatarsById,
+            List<Avatars> freeAvatars,
+            List<Avatars> specialAvatars,
+            MarketplaceResponse marketplace) {}
+
+    public Optional<Avatars> findById(UUID id) {
+        return id == null
+                ? Optional.empty()
+                : Optional.ofNullable(snapshot().avatarsById().get(id));
+    }
+
+    public String getImage(UUID id) {
+        return findById(id).map(Avatars::getImage).orElse(null);
+    }
+
+    public List<Avatars> getFreeAvatars() {
+        return snapshot().freeAvatars();
+    }
+
+    public List<Avatars> getSpecialAvatars() {
+        return snapshot().specialAvatars();
+    }
+
+    // Built once per snapshot, so every caller gets the same instance until the next refresh.
+    public MarketplaceResponse getMarketplace() {
+        return snapshot().marketplace();
+    }
+
+    @Override
+    protected Snapshot load() {
+        List<Avatars> avatars = avatarsRepository.findAll();
+        Map<UUID, Avatars> avatarsById =
+                avatars.stream().collect(Collectors.toUnmodifiableMap(Avatars::getId, Function.identity()));
+        List<Avatars> freeAvatars = avatars.stream()
+                .filter(avatar -> Boolean.FALSE.equals(avatar.getIsSpecial()))
+                .toList();
+        List<Avatars> specialAvatars = avatars.stream()
+                .filter(avatar -> Boolean.TRUE.equals(avatar.getIsSpecial()))
+                .toList();
+        return new Snapshot(avatarsById, freeAvatars, specialAvatars, toMarketplaceResponse(specialAvatars));
+    }
+
+    private MarketplaceResponse toMarketplaceResponse(List<Avatars> specialAvatars) {
+        List<SpecialAvatarsDto> specialAvatarsDtoList = new ArrayList<>(specialAvatars.size());
+        specialAvatars.forEach(avatars -> specialAvatarsDtoList.add(DtoMapper.toSpecialAvatarsDto(avatars)));
+        MarketplaceResponse marketplaceResponse = new MarketplaceResponse();
+        MarketplaceResponseBody body = new MarketplaceResponseBody();
+        body.setSpecialAvatars(Collections.unmodifiableList(specialAvatarsDtoList));
+        marketplaceResponse.setBody(new BaseBody<>(body));
+        marketplaceResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
+        return marketplaceResponse;
+    }
+}
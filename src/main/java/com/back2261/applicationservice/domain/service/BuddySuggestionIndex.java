@@ -0,0 +1,129 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.domain.model.GamerFeature;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Inverted index from keywords and liked games to the gamers that have them. Gamers and features are mapped to dense
+ * ints; each feature keeps a {@link BitSet} of its gamers, so the candidates for a gamer are the union of its
+ * features' bitsets and a candidate's score is the summed weight of the bitsets it appears in. Keywords and games are
+ * owned by the user service, so the index is rebuilt on the catalog refresh schedule instead of being updated in
+ * place.
+ */
+@Service
+@RequiredArgsConstructor
+public class BuddySuggestionIndex extends RefreshableCatalog<BuddySuggestionIndex.Snapshot> {
+
+    static final int KEYWORD_WEIGHT = 1;
+    static final int GAME_WEIGHT = 2;
+
+    private final GamerRepository gamerRepository;
+
+    public record Suggestion(String userId, int score) {}
+
+    public record Snapshot(
+            Map<String, Integer> gamerIds, String[] userIds, int[][] features, BitSet[] postings, int[] weights) {}
+
+    /**
+     * Returns the best scoring gamers sharing at least one keyword or game with {@code userId}, highest score first.
+     * The {@code excluded} gamers are mapped to dense ids once and cleared from the candidates before any is scored.
+     */
+    public List<Suggestion> suggest(String userId, Collection<String> excluded, int limit) {
+        Snapshot snapshot = snapshot();
+        Integer gamer = snapshot.gamerIds().get(userId);
+        if (gamer == null || limit <= 0) {
+            return List.of();
+        }
+        int[] features = snapshot.features()[gamer];
+        BitSet candidates = new BitSet();
+        for (int feature : features) {
+            candidates.or(snapshot.postings()[feature]);
+        }
+        candidates.clear(gamer);
+        BitSet excludedIds = new BitSet();
+        for (String excludedId : excluded) {
+            Integer id = snapshot.gamerIds().get(excludedId);
+            if (id != null) {
+                excludedIds.set(id);
+            }
+        }
+        candidates.andNot(excludedIds);
+
+        Comparator<Suggestion> ranking =
+                Comparator.comparingInt(Suggestion::score).thenComparing(Suggestion::userId, Comparator.reverseOrder());
+        PriorityQueue<Suggestion> best = new PriorityQueue<>(limit + 1, ranking);
+        for (int candidate = candidates.nextSetBit(0);
+                candidate >= 0;
+                candidate = candidates.nextSetBit(candidate + 1)) {
+            int score = 0;
+            for (int feature : features) {
+                if (snapshot.postings()[feature].get(candidate)) {
+                    score += snapshot.weights()[feature];
+                }
+            }
+            // Most candidates share a single feature and cannot displace anything once the queue is full.
+            if (best.size() == limit && score < best.peek().score()) {
+                continue;
+            }
+            best.add(new Suggestion(snapshot.userIds()[candidate], score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Suggestion> suggestions = new ArrayList<>(best);
+        suggestions.sort(ranking.reversed());
+        return suggestions;
+    }
+
+    @Override
+    protected Snapshot load() {
+        Builder builder = new Builder();
+        gamerRepository.findKeywordFeatures().forEach(feature -> builder.add(feature, "keyword:", KEYWORD_WEIGHT));
+        gamerRepository.findGameFeatures().forEach(feature -> builder.add(feature, "game:", GAME_WEIGHT));
+        return builder.build();
+    }
+
+    private static final class Builder {
+
+        private final Map<String, Integer> gamerIds = new HashMap<>();
+        private final List<String> userIds = new ArrayList<>();
+        private final List<List<Integer>> features = new ArrayList<>();
+        private final Map<String, Integer> featureIds = new HashMap<>();
+        private final List<BitSet> postings = new ArrayList<>();
+        private final List<Integer> weights = new ArrayList<>();
+
+        void add(GamerFeature gamerFeature, String prefix, int weight) {
+            int gamer = gamerIds.computeIfAbsent(gamerFeature.userId(), userId -> {
+                userIds.add(userId);
+                features.add(new ArrayList<>());
+                return userIds.size() - 1;
+            });
+            int feature = featureIds.computeIfAbsent(prefix + gamerFeature.featureId(), key -> {
+                postings.add(new BitSet());
+                weights.add(weight);
+                return postings.size() - 1;
+            });
+            if (!postings.get(feature).get(gamer)) {
+                postings.get(feature).set(gamer);
+                features.get(gamer).add(feature);
+            }
+        }
+
+        Snapshot build() {
+            int[][] featureArrays = new int[features.size()][];
+            for (int i = 0; i < featureArrays.length; i++) {
+                featureArrays[i] =
+                        features.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+            return new Snapshot(
+                    Map.copyOf(gamerIds),
+                    userIds.toArray(new String[0]),
+                    featureArrays,
+                    postings.toArray(new BitSet[0]),
+                    weights.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
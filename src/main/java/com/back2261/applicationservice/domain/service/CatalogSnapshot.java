@@ -0,0 +1,7 @@
+package com.back2261.applicationservice.domain.service;
+
+/**
+ * A prebuilt catalog response with the version it was built for. The version only moves when the catalog content
+ * changes, and the strong entity tag is derived from that content so every node hands out the same tag.
+ */
+public record CatalogSnapshot<T>(long version, String eTag, T response) {}
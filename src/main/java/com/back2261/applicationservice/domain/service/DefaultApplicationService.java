@@ -1,8 +1,19 @@
 package com.back2261.applicationservice.domain.service;
 
+import com.back2261.applicationservice.config.GamerCollectionCache;
+import com.back2261.applicationservice.domain.event.AchievementCollectedEvent;
+import com.back2261.applicationservice.domain.event.FriendAddedEvent;
+import com.back2261.applicationservice.domain.event.FriendRemovedEvent;
+import com.back2261.applicationservice.domain.event.ItemBoughtEvent;
+import com.back2261.applicationservice.domain.event.UserBlockedEvent;
+import com.back2261.applicationservice.domain.event.UserUnblockedEvent;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.domain.model.UserInfoSection;
 import com.back2261.applicationservice.infrastructure.entity.*;
 import com.back2261.applicationservice.infrastructure.repository.*;
 import com.back2261.applicationservice.interfaces.dto.*;
+import com.back2261.applicationservice.interfaces.request.BulkFriendRequest;
+import com.back2261.applicationservice.interfaces.request.FriendOperationRequest;
 import com.back2261.applicationservice.interfaces.request.FriendRequest;
 import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
 import com.back2261.applicationservice.interfaces.response.*;
@@ -12,55 +23,118 @@ import io.github.GameBuddyDevs.backendlibrary.enums.TransactionCode;
 import io.github.GameBuddyDevs.backendlibrary.exception.BusinessException;
 import io.github.GameBuddyDevs.backendlibrary.interfaces.DefaultMessageBody;
 import io.github.GameBuddyDevs.backendlibrary.interfaces.DefaultMessageResponse;
-import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
 import io.github.GameBuddyDevs.backendlibrary.util.Constants;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class DefaultApplicationService implements ApplicationService {
-    private final KeywordsRepository keywordsRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Sections backed by a cached Gamer association: the name of that association and its getter.
+    private static final Map<UserInfoSection, CachedAssociation> CACHED_ASSOCIATIONS = Map.of(
+            UserInfoSection.GAMES, new CachedAssociation("likedgames", Gamer::getLikedgames),
+            UserInfoSection.KEYWORDS, new CachedAssociation("keywords", Gamer::getKeywords),
+            UserInfoSection.ACHIEVEMENTS,
+                    new CachedAssociation("gamerEarnedAchievements", Gamer::getGamerEarnedAchievements));
+
     private final GamesRepository gamesRepository;
     private final GamerRepository gamerRepository;
-    private final AvatarsRepository avatarsRepository;
     private final AchievementsRepository achievementRepository;
-    private final JwtService jwtService;
-    private final NotificationService notificationService;
+    private final FriendRepository friendRepository;
+    private final WaitingFriendRepository waitingFriendRepository;
+    private final BlockedFriendRepository blockedFriendRepository;
+    private final BoughtAvatarRepository boughtAvatarRepository;
+    private final CollectedAchievementRepository collectedAchievementRepository;
+    private final BatchInsertRepository batchInsertRepository;
+    private final GamerCollectionCache gamerCollectionCache;
+    private final AvatarCatalog avatarCatalog;
+    private final KeywordCatalog keywordCatalog;
+    private final GamesCatalog gamesCatalog;
+    private final NotificationOutbox notificationOutbox;
+    private final FriendGraph friendGraph;
+    private final SectionLoader sectionLoader;
+    private final BuddySuggestionIndex buddySuggestionIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private record CachedAssociation(String attribute, Function<Gamer, Set<?>> getter) {}
 
     @Override
-    public UserInfoResponse getUserInfo(String userId) {
-        Gamer gamer = gamerRepository
-                .findById(userId)
-                .orElseThrow(() -> new BusinessException(TransactionCode.USER_NOT_FOUND));
-        String avatar = avatarsRepository
-                .findById(gamer.getAvatar())
-                .orElse(new Avatars())
-                .getImage();
-        Set<Games> gamesList = gamer.getLikedgames();
-        Set<Keywords> keywordsList = gamer.getKeywords();
-        Set<Achievements> earnedAchievements = gamer.getGamerEarnedAchievements();
-
-        List<GamesDto> gamesDtoList = new ArrayList<>();
-        List<KeywordsDto> keywordsDtoList = new ArrayList<>();
-
-        mapGamesToDto(gamesList.stream().toList(), gamesDtoList);
-        mapKeywordsToDto(keywordsList.stream().toList(), keywordsDtoList);
-
-        Set<Community> joinedCommunities = gamer.getJoinedCommunities();
-        List<CommunityDto> communityDtoList = new ArrayList<>();
-        joinedCommunities.forEach(community -> {
-            CommunityDto communityDto = new CommunityDto();
-            BeanUtils.copyProperties(community, communityDto);
-            communityDto.setCommunityId(String.valueOf(community.getCommunityId()));
-            communityDto.setIsOwner(community.getOwner().getUserId().equals(userId));
-            communityDtoList.add(communityDto);
+    public UserInfoResponse getUserInfo(String userId, Set<UserInfoSection> requested) {
+        // Every section is read with a single query so the cost does not grow with collection sizes, and the
+        // sections are loaded concurrently with the gamer so the latency is that of the slowest query. Sections
+        // that were not requested are neither queried nor serialized. A section whose association is in the
+        // second-level cache is read from the gamer instead, without a query; the queries of the other ones fetch
+        // the association with its owner so that it is cached for the next request.
+        Set<UserInfoSection> cached = cachedSections(userId, requested);
+        Set<UserInfoSection> queried = EnumSet.noneOf(UserInfoSection.class);
+        queried.addAll(requested);
+        queried.removeAll(cached);
+
+        SectionLoader.Batch sections = sectionLoader.batch();
+        SectionLoader.Section<GamesDto> games =
+                loadSection(sections, queried, UserInfoSection.GAMES, () -> gamerRepository
+                        .findWithLikedGames(userId)
+                        .map(gamer -> DtoMapper.toGamesDtoList(gamer.getLikedgames()))
+                        .orElse(List.of()));
+        SectionLoader.Section<KeywordsDto> keywords =
+                loadSection(sections, queried, UserInfoSection.KEYWORDS, () -> gamerRepository
+                        .findWithKeywords(userId)
+                        .map(gamer -> DtoMapper.toKeywordsDtoList(gamer.getKeywords()))
+                        .orElse(List.of()));
+        SectionLoader.Section<Achievements> achievements =
+                loadSection(sections, queried, UserInfoSection.ACHIEVEMENTS, () -> gamerRepository
+                        .findWithEarnedAchievements(userId)
+                        .map(gamer -> List.copyOf(gamer.getGamerEarnedAchievements()))
+                        .orElse(List.of()));
+        SectionLoader.Section<CommunityDto> communities = loadSection(
+                sections,
+                queried,
+                UserInfoSection.JOINED_COMMUNITIES,
+                () -> gamerRepository.findJoinedCommunities(userId));
+        SectionLoader.Section<GamerDto> friends =
+                loadSection(sections, queried, UserInfoSection.FRIENDS, () -> gamerRepository.findFriends(userId));
+
+        // The gamer is read in a short transaction of its own, with its cached associations initialized, so no
+        // connection is held while the other sections load.
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        Gamer gamer = readOnlyTransaction.execute(status -> {
+            Optional<Gamer> found = gamerRepository.findById(userId);
+            found.ifPresent(loaded -> cached.forEach(section -> {
+                CachedAssociation association = CACHED_ASSOCIATIONS.get(section);
+                gamerCollectionCache.loadElements(association.attribute(), userId);
+                Hibernate.initialize(association.getter().apply(loaded));
+            }));
+            return found.orElse(null);
         });
-        Set<Gamer> friends = gamer.getFriends();
-        List<GamerDto> friendsDtoList = new ArrayList<>();
-        mapFriendsToDto(friends, friendsDtoList);
+        if (gamer == null) {
+            sections.cancel(games, keywords, achievements, communities, friends);
+            throw new BusinessException(TransactionCode.USER_NOT_FOUND);
+        }
+        if (cached.contains(UserInfoSection.GAMES)) {
+            games = sections.load(UserInfoSection.GAMES.field(), () -> DtoMapper.toGamesDtoList(gamer.getLikedgames()));
+        }
+        if (cached.contains(UserInfoSection.KEYWORDS)) {
+            keywords = sections.load(
+                    UserInfoSection.KEYWORDS.field(), () -> DtoMapper.toKeywordsDtoList(gamer.getKeywords()));
+        }
+        if (cached.contains(UserInfoSection.ACHIEVEMENTS)) {
+            achievements = sections.load(
+                    UserInfoSection.ACHIEVEMENTS.field(), () -> List.copyOf(gamer.getGamerEarnedAchievements()));
+        }
+        String avatar = avatarCatalog.getImage(gamer.getAvatar());
 
         UserInfoResponse userInfoResponse = new UserInfoResponse();
         UserInfoResponseBody body = new UserInfoResponseBody();
@@ -71,41 +145,32 @@ public class DefaultApplicationService implements ApplicationService {
         body.setGender(gamer.getGender());
         body.setEmail(gamer.getEmail());
         body.setCoin(gamer.getCoin());
-        body.setGames(gamesDtoList);
-        body.setKeywords(keywordsDtoList);
-        body.setAchievements(earnedAchievements.stream().toList());
-        body.setJoinedCommunities(communityDtoList);
-        body.setFriends(friendsDtoList);
+        body.setGames(games.get());
+        body.setKeywords(keywords.get());
+        body.setAchievements(achievements.get());
+        body.setJoinedCommunities(communities.get());
+        body.setFriends(friends.get());
+        body.setIncompleteSections(sections.incomplete());
         userInfoResponse.setBody(new BaseBody<>(body));
         userInfoResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
         return userInfoResponse;
     }
 
     @Override
-    public KeywordsResponse getKeywords() {
-        List<KeywordsDto> keywordsDtoList = new ArrayList<>();
-        List<Keywords> keywordsList = keywordsRepository.findAll();
-        mapKeywordsToDto(keywordsList, keywordsDtoList);
-        KeywordsResponse keywordsResponse = new KeywordsResponse();
-        KeywordsResponseBody body = new KeywordsResponseBody();
-        body.setKeywords(keywordsDtoList);
-        keywordsResponse.setBody(new BaseBody<>(body));
-        keywordsResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
-        return keywordsResponse;
+    public CatalogSnapshot<KeywordsResponse> getKeywords() {
+        return keywordCatalog.snapshot();
     }
 
     @Override
     public GamesResponse getGames() {
-        List<Games> gamesList = gamesRepository.findAll();
-        return getGamesResponse(gamesList);
+        return gamesCatalog.getGames();
     }
 
     @Override
     public GameResponse getGame(String gameId) {
         Games game =
                 gamesRepository.findById(gameId).orElseThrow(() -> new BusinessException(TransactionCode.DB_ERROR));
-        GamesDto gamesDto = new GamesDto();
-        BeanUtils.copyProperties(game, gamesDto);
+        GamesDto gamesDto = DtoMapper.toGamesDto(game);
         GameResponse gameResponse = new GameResponse();
         GameResponseBody body = new GameResponseBody();
         body.setGameData(gamesDto);
@@ -116,23 +181,23 @@ public class DefaultApplicationService implements ApplicationService {
 
     @Override
     public GamesResponse getPopularGames() {
-        List<Games> gamesList = gamesRepository.findAllByIsPopularTrueOrderByAvgVoteDesc();
-        return getGamesResponse(gamesList);
+        return gamesCatalog.getPopularGames();
     }
 
     @Override
-    public AvatarsResponse getAvatars(String token) {
-        Gamer gamer = extractGamer(token);
+    public GamesResponse searchGames(String query, int size) {
+        return gamesCatalog.searchGames(query, pageSize(size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvatarsResponse getAvatars(GamerPrincipal principal) {
+        Gamer gamer = getGamer(principal);
         List<Avatars> boughtAvatars = gamer.getBoughtAvatars().stream().toList();
-        List<Avatars> avatarsList = avatarsRepository.findAllByIsSpecialFalse();
+        List<Avatars> avatarsList = new ArrayList<>(avatarCatalog.getFreeAvatars());
         avatarsList.addAll(boughtAvatars);
-        List<AvatarsDto> avatarsDtoList = new ArrayList<>();
-        avatarsList.forEach(avatars -> {
-            AvatarsDto avatarsDto = new AvatarsDto();
-            avatarsDto.setId(avatars.getId().toString());
-            avatarsDto.setImage(avatars.getImage());
-            avatarsDtoList.add(avatarsDto);
-        });
+        List<AvatarsDto> avatarsDtoList = new ArrayList<>(avatarsList.size());
+        avatarsList.forEach(avatars -> avatarsDtoList.add(DtoMapper.toAvatarsDto(avatars)));
 
         AvatarsResponse avatarsResponse = new AvatarsResponse();
         AvatarsResponseBody body = new AvatarsResponseBody();
@@ -143,21 +208,16 @@ public class DefaultApplicationService implements ApplicationService {
     }
 
     @Override
-    public AchievementResponse getAchievements(String token) {
-        Gamer gamer = extractGamer(token);
+    @Transactional(readOnly = true)
+    public AchievementResponse getAchievements(GamerPrincipal principal) {
+        Gamer gamer = getGamer(principal);
         Set<Achievements> collected = gamer.getGamerCollectedAchievements();
         Set<Achievements> earned = gamer.getGamerEarnedAchievements();
         List<Achievements> achievementsList = achievementRepository.findAll();
-        List<AchievementsDto> achievementsDtoList = new ArrayList<>();
-
-        achievementsList.forEach(achievements -> {
-            AchievementsDto achievementsDto = new AchievementsDto();
-            BeanUtils.copyProperties(achievements, achievementsDto);
-            achievementsDto.setId(achievements.getId().toString());
-            achievementsDto.setIsCollected(collected.contains(achievements));
-            achievementsDto.setIsEarned(earned.contains(achievements));
-            achievementsDtoList.add(achievementsDto);
-        });
+        List<AchievementsDto> achievementsDtoList = new ArrayList<>(achievementsList.size());
+
+        achievementsList.forEach(achievements -> achievementsDtoList.add(DtoMapper.toAchievementsDto(
+                achievements, collected.contains(achievements), earned.contains(achievements))));
 
         AchievementResponse achievementResponse = new AchievementResponse();
         AchievementResponseBody body = new AchievementResponseBody();
@@ -168,26 +228,31 @@ public class DefaultApplicationService implements ApplicationService {
     }
 
     @Override
-    public DefaultMessageResponse collectAchievement(String token, String achievementId) {
-        Gamer gamer = extractGamer(token);
-        Integer coin = gamer.getCoin();
-        Optional<Achievements> achievementOptional = achievementRepository.findById(UUID.fromString(achievementId));
-        if (achievementOptional.isEmpty()) {
-            throw new BusinessException(TransactionCode.ACHIEVEMENT_NOT_FOUND);
-        }
-        Achievements achievement = achievementOptional.get();
-
-        if (Boolean.FALSE.equals(gamer.getGamerEarnedAchievements().contains(achievement))) {
+    @Transactional
+    public DefaultMessageResponse collectAchievement(GamerPrincipal principal, String achievementId) {
+        String userId = principal.userId();
+        Achievements achievement = achievementRepository
+                .findById(UUID.fromString(achievementId))
+                .orElseThrow(() -> new BusinessException(TransactionCode.ACHIEVEMENT_NOT_FOUND));
+
+        if (!gamerRepository.hasEarnedAchievement(userId, achievement.getId())) {
             throw new BusinessException(TransactionCode.ACHIEVEMENT_NOT_EARNED);
         }
 
-        if (Boolean.TRUE.equals(gamer.getGamerCollectedAchievements().contains(achievement))) {
+        if (collectedAchievementRepository.existsByGamerIdAndAchievementId(userId, achievement.getId())) {
             throw new BusinessException(TransactionCode.ALREADY_COLLECTED);
         }
 
-        gamer.setCoin(coin + achievement.getValue());
-        gamer.getGamerCollectedAchievements().add(achievement);
-        gamerRepository.save(gamer);
+        // The primary key on the join row makes a concurrent second collect fail before any coin is credited.
+        try {
+            collectedAchievementRepository.insert(userId, achievement.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(TransactionCode.ALREADY_COLLECTED);
+        }
+        if (gamerRepository.creditCoin(userId, achievement.getValue()) == 0) {
+            throw new BusinessException(TransactionCode.USER_NOT_FOUND);
+        }
+        eventPublisher.publishEvent(new AchievementCollectedEvent(userId, achievement.getId()));
 
         DefaultMessageResponse defaultMessageResponse = new DefaultMessageResponse();
         DefaultMessageBody body =
@@ -199,49 +264,33 @@ public class DefaultApplicationService implements ApplicationService {
 
     @Override
     public MarketplaceResponse getMarketplace() {
-        List<Avatars> specialAvatars = avatarsRepository.findAllByIsSpecialTrue();
-        List<SpecialAvatarsDto> specialAvatarsDtoList = new ArrayList<>();
-        specialAvatars.forEach(avatars -> {
-            SpecialAvatarsDto avatarsDto = new SpecialAvatarsDto();
-            avatarsDto.setId(avatars.getId().toString());
-            avatarsDto.setImage(avatars.getImage());
-            avatarsDto.setPrice(String.valueOf(avatars.getPrice()));
-            specialAvatarsDtoList.add(avatarsDto);
-        });
-        MarketplaceResponse marketplaceResponse = new MarketplaceResponse();
-        MarketplaceResponseBody body = new MarketplaceResponseBody();
-        body.setSpecialAvatars(specialAvatarsDtoList);
-        marketplaceResponse.setBody(new BaseBody<>(body));
-        marketplaceResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
-        return marketplaceResponse;
+        return avatarCatalog.getMarketplace();
     }
 
     @Override
-    public DefaultMessageResponse buyItem(String token, String itemId) {
-        Gamer gamer = extractGamer(token);
-        Integer coin = gamer.getCoin();
-        Avatars avatar = avatarsRepository
+    @Transactional
+    public DefaultMessageResponse buyItem(GamerPrincipal principal, String itemId) {
+        String userId = principal.userId();
+        Avatars avatar = avatarCatalog
                 .findById(UUID.fromString(itemId))
                 .orElseThrow(() -> new BusinessException(TransactionCode.AVATAR_NOT_FOUND));
         if (Boolean.FALSE.equals(avatar.getIsSpecial())) {
             throw new BusinessException(TransactionCode.AVATAR_ALREADY_OWNED);
         }
-        if (gamer.getBoughtAvatars().contains(avatar)) {
+        if (boughtAvatarRepository.existsByUserIdAndAvatarId(userId, avatar.getId())) {
             throw new BusinessException(TransactionCode.AVATAR_ALREADY_OWNED);
         }
-        if (coin < avatar.getPrice()) {
+        if (gamerRepository.debitCoin(userId, avatar.getPrice()) == 0) {
             throw new BusinessException(TransactionCode.COIN_NOT_ENOUGH);
         }
 
-        gamer.setCoin(coin - avatar.getPrice());
-        gamer.getBoughtAvatars().add(avatar);
-        if (gamer.getBoughtAvatars().size() == 3) {
-            Achievements achievement = achievementRepository
-                    .findByAchievementName("Rich in the hood!!!")
-                    .orElseThrow(() -> new BusinessException(TransactionCode.ACHIEVEMENT_NOT_FOUND));
-            setAchievementAndSendNotification(gamer, achievement);
+        // A concurrent purchase of the same avatar fails here and rolls the debit back.
+        try {
+            boughtAvatarRepository.insert(userId, avatar.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(TransactionCode.AVATAR_ALREADY_OWNED);
         }
-        gamerRepository.save(gamer);
+        eventPublisher.publishEvent(new ItemBoughtEvent(userId, avatar.getId()));
         DefaultMessageResponse defaultMessageResponse = new DefaultMessageResponse();
         DefaultMessageBody body = new DefaultMessageBody("Item bought");
         defaultMessageResponse.setBody(new BaseBody<>(body));
@@ -250,67 +299,100 @@ public class DefaultApplicationService implements ApplicationService {
     }
 
     @Override
-    public FriendsResponse getFriends(String token) {
-        List<GamerDto> friendDtoList = new ArrayList<>();
-        Gamer gamer = extractGamer(token);
-        Set<Gamer> friends = gamer.getFriends();
-        if (friends.size() == 1) {
-            Achievements achievement = achievementRepository
-                    .findByAchievementName("Friendly Person!!!")
-                    .orElseThrow(() -> new BusinessException(TransactionCode.ACHIEVEMENT_NOT_FOUND));
-            if (Boolean.FALSE.equals(gamer.getGamerEarnedAchievements().contains(achievement))) {
-                setAchievementAndSendNotification(gamer, achievement);
+    public FriendsResponse getFriends(GamerPrincipal principal, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<GamerDto> friends = friendRepository.findFriendsPage(
+                principal.userId(), KeysetCursor.decode(cursor), PageRequest.of(0, pageSize + 1));
+        return getFriendsResponse(friends, pageSize);
+    }
+
+    @Override
+    public FriendsResponse getMutualFriends(String userId, GamerPrincipal principal) {
+        checkGamerExists(userId);
+        List<String> mutualIds = friendGraph.mutualFriends(principal.userId(), userId);
+        List<GamerDto> mutualFriends = mutualIds.isEmpty() ? List.of() : gamerRepository.findGamerDtos(mutualIds);
+        return getFriendsResponse(mutualFriends, mutualFriends.size());
+    }
+
+    @Override
+    public BuddySuggestionsResponse getBuddySuggestions(GamerPrincipal principal, int size) {
+        String userId = principal.userId();
+        Set<String> excluded = new HashSet<>(waitingFriendRepository.findPendingIds(userId));
+        // The graph only sees blocks committed on other instances after its next reload, so blocks are read from the
+        // table: a gamer who blocked this one must never be suggested.
+        excluded.addAll(blockedFriendRepository.findBlockIds(userId));
+        excluded.addAll(friendGraph.connections(userId));
+        List<BuddySuggestionIndex.Suggestion> suggestions =
+                buddySuggestionIndex.suggest(userId, excluded, pageSize(size));
+
+        List<BuddySuggestionDto> suggestionDtoList = new ArrayList<>();
+        if (!suggestions.isEmpty()) {
+            Map<String, GamerDto> gamers = new HashMap<>();
+            gamerRepository
+                    .findGamerDtos(suggestions.stream()
+                            .map(BuddySuggestionIndex.Suggestion::userId)
+                            .toList())
+                    .forEach(gamer -> gamers.put(gamer.getUserId(), gamer));
+            for (BuddySuggestionIndex.Suggestion suggestion : suggestions) {
+                GamerDto gamer = gamers.get(suggestion.userId());
+                if (gamer != null) {
+                    suggestionDtoList.add(new BuddySuggestionDto(
+                            gamer.getUserId(),
+                            gamer.getUsername(),
+                            gamer.getAge(),
+                            gamer.getCountry(),
+                            gamer.getAvatar(),
+                            suggestion.score()));
+                }
             }
         }
-        return getFriendsResponse(friendDtoList, friends);
+
+        BuddySuggestionsResponse buddySuggestionsResponse = new BuddySuggestionsResponse();
+        BuddySuggestionsResponseBody body = new BuddySuggestionsResponseBody(suggestionDtoList);
+        buddySuggestionsResponse.setBody(new BaseBody<>(body));
+        buddySuggestionsResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
+        return buddySuggestionsResponse;
     }
 
     @Override
-    public FriendsResponse getWaitingFriends(String token) {
-        List<GamerDto> friendDtoList = new ArrayList<>();
-        Gamer gamer = extractGamer(token);
-        Set<Gamer> waitingFriends = gamer.getWaitingFriends();
-        return getFriendsResponse(friendDtoList, waitingFriends);
+    public FriendsResponse getWaitingFriends(GamerPrincipal principal, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<GamerDto> waitingFriends = waitingFriendRepository.findWaitingFriendsPage(
+                principal.userId(), KeysetCursor.decode(cursor), PageRequest.of(0, pageSize + 1));
+        return getFriendsResponse(waitingFriends, pageSize);
     }
 
     @Override
-    public FriendsResponse getBlockedFriends(String token) {
-        List<GamerDto> friendDtoList = new ArrayList<>();
-        Gamer gamer = extractGamer(token);
-        Set<Gamer> blockedFriend = gamer.getBlockedFriends();
-        return getFriendsResponse(friendDtoList, blockedFriend);
+    public FriendsResponse getBlockedFriends(GamerPrincipal principal, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<GamerDto> blockedFriends = blockedFriendRepository.findBlockedFriendsPage(
+                principal.userId(), KeysetCursor.decode(cursor), PageRequest.of(0, pageSize + 1));
+        return getFriendsResponse(blockedFriends, pageSize);
     }
 
     @Override
-    public DefaultMessageResponse acceptFriend(FriendRequest addFriendRequest, String token) {
+    @Transactional
+    public DefaultMessageResponse acceptFriend(FriendRequest addFriendRequest, GamerPrincipal principal) {
         String id = addFriendRequest.getUserId();
-        Gamer gamer = extractGamer(token);
+        Gamer gamer = getGamer(principal);
         Gamer user = getGamerFromId(id);
-        Set<Gamer> waitingFriends = gamer.getWaitingFriends();
-        Set<Gamer> myFriends = gamer.getFriends();
-        if (myFriends.stream().anyMatch(friend -> friend.getUserId().equals(id))) {
+        if (friendRepository.existsByUserIdAndFriendId(gamer.getUserId(), id)) {
             throw new BusinessException(TransactionCode.FRIEND_ALREADY_EXISTS);
         }
-        if (waitingFriends.stream()
-                .noneMatch(waitingFriend -> waitingFriend.getUserId().equals(id))) {
+        if (waitingFriendRepository.deleteByUserIdAndWaitingFriendId(gamer.getUserId(), id) == 0) {
             throw new BusinessException(TransactionCode.FRIEND_NO_REQUEST);
         }
 
-        waitingFriends.remove(user);
-        myFriends.add(user);
-        gamerRepository.save(gamer);
-        user.getFriends().add(gamer);
-        gamerRepository.save(user);
+        friendRepository.save(new Friend(gamer.getUserId(), id));
+        friendRepository.save(new Friend(id, gamer.getUserId()));
+        eventPublisher.publishEvent(new FriendAddedEvent(gamer.getUserId(), id));
+        eventPublisher.publishEvent(new FriendAddedEvent(id, gamer.getUserId()));
 
         SendNotificationTokenRequest tokenRequest = new SendNotificationTokenRequest();
         tokenRequest.setToken(user.getFcmToken());
         tokenRequest.setTitle(Constants.FRIEND_REQUEST_ACCEPTED_TITLE);
         tokenRequest.setBody(String.format(Constants.FRIEND_REQUEST_ACCEPTED_BODY, gamer.getGamerUsername()));
-        try {
-            notificationService.sendToToken(tokenRequest);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        notificationOutbox.enqueue(tokenRequest);
 
         DefaultMessageResponse defaultMessageResponse = new DefaultMessageResponse();
         DefaultMessageBody body = new DefaultMessageBody("Friend added successfully");
@@ -320,20 +402,15 @@ public class DefaultApplicationService implements ApplicationService {
     }
 
     @Override
-    public DefaultMessageResponse rejectFriend(FriendRequest rejectFriendRequest, String token) {
+    @Transactional
+    public DefaultMessageResponse rejectFriend(FriendRequest rejectFriendRequest, GamerPrincipal principal) {
         String id = rejectFriendRequest.getUserId();
-        Gamer gamer = extractGamer(token);
-        Gamer user = getGamerFromId(id);
-        Set<Gamer> waitingFriends = gamer.getWaitingFriends();
+        checkGamerExists(id);
 
-        if (waitingFriends.stream()
-                .noneMatch(waitingFriend -> waitingFriend.getUserId().equals(id))) {
+        if (waitingFriendRepository.deleteByUserIdAndWaitingFriendId(principal.userId(), id) == 0) {
             throw new BusinessException(TransactionCode.FRIEND_NO_REQUEST);
         }
 
-        gamer.getWaitingFriends().remove(user);
-        gamerRepository.save(gamer);
-
         DefaultMessageResponse defaultMessageResponse = new DefaultMessageResponse();
         DefaultMessageBody body = new DefaultMessageBody("Friend rejected successfully");
         defaultMessageResponse.setBody(new BaseBody<>(body));
@@ -342,19 +419,17 @@ public class DefaultApplicationService implements ApplicationService {
     }
 
     @Override
-    public DefaultMessageResponse removeFriend(FriendRequest removeFriendRequest, String token) {
+    @Transactional
+    public DefaultMessageResponse removeFriend(FriendRequest removeFriendRequest, GamerPrincipal principal) {
         String id = removeFriendRequest.getUserId();
-        Gamer gamer = extractGamer(token);
-        Gamer friend = getGamerFromId(id);
+        checkGamerExists(id);
 
-        if (gamer.getFriends().stream().noneMatch(friend1 -> friend1.getUserId().equals(id))) {
+        if (friendRepository.deleteByUserIdAndFriendId(principal.userId(), id) == 0) {
             throw new BusinessException(TransactionCode.FRIEND_NOT_FOUND);
         }
-
-        gamer.getFriends().remove(friend);
-        gamerRepository.save(gamer);
-        friend.getFriends().remove(gamer);
-        gamerRepository.save(friend);
+        friendRepository.deleteByUserIdAndFriendId(id, principal.userId());
+        eventPublisher.publishEvent(new FriendRemovedEvent(principal.userId(), id));
+        eventPublisher.publishEvent(new FriendRemovedEvent(id, principal.userId()));
 
         DefaultMessageResponse defaultMessageResponse = new DefaultMessageResponse();
         DefaultMessageBody body = new DefaultMessageBody("Friend removed successfully");
@@ -364,29 +439,22 @@ public class DefaultApplicationService implements ApplicationService {
     }
 
     @Override
-    public DefaultMessageResponse blockUser(FriendRequest blockFriendRequest, String token) {
+    @Transactional
+    public DefaultMessageResponse blockUser(FriendRequest blockFriendRequest, GamerPrincipal principal) {
         String id = blockFriendRequest.getUserId();
-        Gamer gamer = extractGamer(token);
-        Gamer user = getGamerFromId(id);
+        String userId = principal.userId();
+        checkGamerExists(id);
 
-        if (gamer.getBlockedFriends().stream()
-                .anyMatch(friend -> friend.getUserId().equals(id))) {
+        if (blockedFriendRepository.existsByGamerIdAndBlockedId(userId, id)) {
             throw new BusinessException(TransactionCode.USER_ALREADY_BLOCKED);
         }
 
-        if (gamer.getFriends().stream().anyMatch(friend -> friend.getUserId().equals(id))) {
-            gamer.getFriends().remove(user);
-            user.getFriends().remove(gamer);
-        }
-
-        if (gamer.getWaitingFriends().stream()
-                .anyMatch(friend -> friend.getUserId().equals(id))) {
-            gamer.getWaitingFriends().remove(user);
-            user.getWaitingFriends().remove(gamer);
-        }
-
-        gamer.getBlockedFriends().add(user);
-        gamerRepository.save(gamer);
+        friendRepository.deleteByUserIdAndFriendId(userId, id);
+        friendRepository.deleteByUserIdAndFriendId(id, userId);
+        waitingFriendRepository.deleteByUserIdAndWaitingFriendId(userId, id);
+        waitingFriendRepository.deleteByUserIdAndWaitingFriendId(id, userId);
+        blockedFriendRepository.save(new BlockedFriend(userId, id));
+        eventPublisher.publishEvent(new UserBlockedEvent(userId, id));
 
         DefaultMessageResponse defaultMessageResponse = new DefaultMessageResponse();
         DefaultMessageBody body = new DefaultMessageBody("User blocked successfully");
@@ -396,17 +464,14 @@ public class DefaultApplicationService implements ApplicationService {
     }
 
     @Override
-    public DefaultMessageResponse unblockUser(FriendRequest unblockFriendRequest, String token) {
+    @Transactional
+    public DefaultMessageResponse unblockUser(FriendRequest unblockFriendRequest, GamerPrincipal principal) {
         String id = unblockFriendRequest.getUserId();
-        Gamer gamer = extractGamer(token);
-        Gamer user = getGamerFromId(id);
-        if (gamer.getBlockedFriends().stream()
-                .noneMatch(friend -> friend.getUserId().equals(id))) {
+        checkGamerExists(id);
+        if (blockedFriendRepository.deleteByGamerIdAndBlockedId(principal.userId(), id) == 0) {
             throw new BusinessException(TransactionCode.USER_NOT_BLOCKED);
         }
-
-        gamer.getBlockedFriends().remove(user);
-        gamerRepository.save(gamer);
+        eventPublisher.publishEvent(new UserUnblockedEvent(principal.userId(), id));
 
         DefaultMessageResponse defaultMessageResponse = new DefaultMessageResponse();
         DefaultMessageBody body = new DefaultMessageBody("User unblocked successfully");
@@ -416,42 +481,35 @@ public class DefaultApplicationService implements ApplicationService {
     }
 
     @Override
-    public DefaultMessageResponse sendFriendRequest(FriendRequest sendRequest, String token) {
+    @Transactional
+    public DefaultMessageResponse sendFriendRequest(FriendRequest sendRequest, GamerPrincipal principal) {
         String id = sendRequest.getUserId();
-        Gamer gamer = extractGamer(token);
+        Gamer gamer = getGamer(principal);
         Gamer user = getGamerFromId(id);
 
-        if (user.getBlockedFriends().stream()
-                .anyMatch(blockedFriend -> blockedFriend.getUserId().equals(gamer.getUserId()))) {
+        if (blockedFriendRepository.existsByGamerIdAndBlockedId(id, gamer.getUserId())) {
             throw new BusinessException(TransactionCode.USER_BLOCKED_YOU);
         }
 
-        if (gamer.getBlockedFriends().stream()
-                .anyMatch(blockedFriend -> blockedFriend.getUserId().equals(user.getUserId()))) {
+        if (blockedFriendRepository.existsByGamerIdAndBlockedId(gamer.getUserId(), id)) {
             throw new BusinessException(TransactionCode.USER_BLOCKED);
         }
 
-        if (user.getFriends().stream().anyMatch(friend -> friend.getUserId().equals(gamer.getUserId()))) {
+        if (friendRepository.existsByUserIdAndFriendId(id, gamer.getUserId())) {
             throw new BusinessException(TransactionCode.ALREADY_FRIENDS);
         }
 
-        if (user.getWaitingFriends().stream()
-                .anyMatch(waitingFriend -> waitingFriend.getUserId().equals(gamer.getUserId()))) {
+        if (waitingFriendRepository.existsByUserIdAndWaitingFriendId(id, gamer.getUserId())) {
             throw new BusinessException(TransactionCode.ALREADY_SENT_REQUEST);
         }
 
-        user.getWaitingFriends().add(gamer);
-        gamerRepository.save(user);
+        waitingFriendRepository.save(new WaitingFriend(id, gamer.getUserId()));
 
         SendNotificationTokenRequest tokenRequest = new SendNotificationTokenRequest();
         tokenRequest.setToken(user.getFcmToken());
         tokenRequest.setTitle(Constants.FRIENT_REQUEST_TITLE);
         tokenRequest.setBody(String.format(Constants.FRIENT_REQUEST_BODY, gamer.getGamerUsername()));
-        try {
-            notificationService.sendToToken(tokenRequest);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        notificationOutbox.enqueue(tokenRequest);
 
         DefaultMessageResponse defaultMessageResponse = new DefaultMessageResponse();
         DefaultMessageBody body = new DefaultMessageBody("Friend request sent successfully");
@@ -460,36 +518,157 @@ public class DefaultApplicationService implements ApplicationService {
         return defaultMessageResponse;
     }
 
-    private void setAchievementAndSendNotification(Gamer gamer, Achievements achievement) {
-        gamer.getGamerEarnedAchievements().add(achievement);
-        SendNotificationTokenRequest tokenRequest = new SendNotificationTokenRequest();
-        tokenRequest.setToken(gamer.getFcmToken());
-        tokenRequest.setTitle(Constants.ACHIEVEMENT_TITLE);
-        tokenRequest.setBody(String.format(Constants.ACHIEVEMENT_BODY, achievement.getAchievementName()));
-        try {
-            notificationService.sendToToken(tokenRequest);
-        } catch (Exception e) {
-            e.printStackTrace();
+    @Override
+    @Transactional
+    public BulkFriendResponse applyFriendOperations(BulkFriendRequest bulkFriendRequest, GamerPrincipal principal) {
+        String userId = principal.userId();
+        List<FriendOperationRequest> operations = bulkFriendRequest.getOperations();
+        Set<String> ids = new HashSet<>();
+        for (FriendOperationRequest operation : operations) {
+            if (!ids.add(operation.getUserId())) {
+                throw new IllegalArgumentException("Duplicate user ID in bulk request: " + operation.getUserId());
+            }
         }
+
+        Set<String> gamerIds = new HashSet<>(ids);
+        gamerIds.add(userId);
+        Map<String, Gamer> gamers = new HashMap<>();
+        gamerRepository.findAllById(gamerIds).forEach(gamer -> gamers.put(gamer.getUserId(), gamer));
+        Set<String> friendIds = friendRepository.findFriendIdsIn(userId, ids);
+        Set<String> waitingIds = waitingFriendRepository.findWaitingFriendIdsIn(userId, ids);
+        Set<String> blockedIds = blockedFriendRepository.findBlockedIdsIn(userId, ids);
+
+        Map<FriendOperationRequest.Action, Set<String>> applicable = new EnumMap<>(FriendOperationRequest.Action.class);
+        for (FriendOperationRequest.Action action : FriendOperationRequest.Action.values()) {
+            applicable.put(action, new HashSet<>());
+        }
+        List<FriendOperationResultDto> results = new ArrayList<>();
+        for (FriendOperationRequest operation : operations) {
+            String id = operation.getUserId();
+            TransactionCode code;
+            if (!gamers.containsKey(id)) {
+                code = TransactionCode.USER_NOT_FOUND;
+            } else {
+                code = switch (operation.getAction()) {
+                    case ACCEPT -> friendIds.contains(id)
+                            ? TransactionCode.FRIEND_ALREADY_EXISTS
+                            : waitingIds.contains(id) ? TransactionCode.DEFAULT_100 : TransactionCode.FRIEND_NO_REQUEST;
+                    case REJECT -> waitingIds.contains(id)
+                            ? TransactionCode.DEFAULT_100
+                            : TransactionCode.FRIEND_NO_REQUEST;
+                    case BLOCK -> blockedIds.contains(id)
+                            ? TransactionCode.USER_ALREADY_BLOCKED
+                            : TransactionCode.DEFAULT_100;
+                    case UNBLOCK -> blockedIds.contains(id)
+                            ? TransactionCode.DEFAULT_100
+                            : TransactionCode.USER_NOT_BLOCKED;};
+            }
+            if (code == TransactionCode.DEFAULT_100) {
+                applicable.get(operation.getAction()).add(id);
+            }
+            results.add(new FriendOperationResultDto(id, operation.getAction(), new Status(code)));
+        }
+
+        writeFriendOperations(userId, applicable);
+        Gamer gamer = gamers.get(userId);
+        for (String id : applicable.get(FriendOperationRequest.Action.ACCEPT)) {
+            eventPublisher.publishEvent(new FriendAddedEvent(userId, id));
+            eventPublisher.publishEvent(new FriendAddedEvent(id, userId));
+            SendNotificationTokenRequest tokenRequest = new SendNotificationTokenRequest();
+            tokenRequest.setToken(gamers.get(id).getFcmToken());
+            tokenRequest.setTitle(Constants.FRIEND_REQUEST_ACCEPTED_TITLE);
+            tokenRequest.setBody(String.format(Constants.FRIEND_REQUEST_ACCEPTED_BODY, gamer.getGamerUsername()));
+            notificationOutbox.enqueue(tokenRequest);
+        }
+        applicable
+                .get(FriendOperationRequest.Action.BLOCK)
+                .forEach(id -> eventPublisher.publishEvent(new UserBlockedEvent(userId, id)));
+        applicable
+                .get(FriendOperationRequest.Action.UNBLOCK)
+                .forEach(id -> eventPublisher.publishEvent(new UserUnblockedEvent(userId, id)));
+
+        BulkFriendResponse bulkFriendResponse = new BulkFriendResponse();
+        BulkFriendResponseBody body = new BulkFriendResponseBody(results);
+        bulkFriendResponse.setBody(new BaseBody<>(body));
+        bulkFriendResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
+        return bulkFriendResponse;
+    }
+
+    // One set-based delete per join table and direction, then batched inserts for the new rows. Reverse friendships of
+    // accepted users are cleared first so re-inserting them cannot collide with a stale row.
+    private void writeFriendOperations(String userId, Map<FriendOperationRequest.Action, Set<String>> applicable) {
+        Set<String> accepted = applicable.get(FriendOperationRequest.Action.ACCEPT);
+        Set<String> blocked = applicable.get(FriendOperationRequest.Action.BLOCK);
+        Set<String> unblocked = applicable.get(FriendOperationRequest.Action.UNBLOCK);
+        Set<String> answered = new HashSet<>(accepted);
+        answered.addAll(applicable.get(FriendOperationRequest.Action.REJECT));
+        answered.addAll(blocked);
+        Set<String> unfriended = new HashSet<>(accepted);
+        unfriended.addAll(blocked);
+
+        if (!answered.isEmpty()) {
+            waitingFriendRepository.deleteByUserIdAndWaitingFriendIdIn(userId, answered);
+        }
+        if (!unfriended.isEmpty()) {
+            friendRepository.deleteByUserIdInAndFriendId(unfriended, userId);
+        }
+        if (!blocked.isEmpty()) {
+            waitingFriendRepository.deleteByUserIdInAndWaitingFriendId(blocked, userId);
+            friendRepository.deleteByUserIdAndFriendIdIn(userId, blocked);
+        }
+        if (!unblocked.isEmpty()) {
+            blockedFriendRepository.deleteByGamerIdAndBlockedIdIn(userId, unblocked);
+        }
+
+        List<Object> rows = new ArrayList<>();
+        accepted.forEach(id -> {
+            rows.add(new Friend(userId, id));
+            rows.add(new Friend(id, userId));
+        });
+        blocked.forEach(id -> rows.add(new BlockedFriend(userId, id)));
+        batchInsertRepository.persistAll(rows);
+    }
+
+    private Set<UserInfoSection> cachedSections(String userId, Set<UserInfoSection> requested) {
+        Set<UserInfoSection> cached = EnumSet.noneOf(UserInfoSection.class);
+        CACHED_ASSOCIATIONS.forEach((section, association) -> {
+            if (requested.contains(section) && gamerCollectionCache.contains(association.attribute(), userId)) {
+                cached.add(section);
+            }
+        });
+        return cached;
     }
 
-    private FriendsResponse getFriendsResponse(List<GamerDto> friendDtoList, Set<Gamer> friends) {
-        mapFriendsToDto(friends, friendDtoList);
+    private static <T> SectionLoader.Section<T> loadSection(
+            SectionLoader.Batch sections,
+            Set<UserInfoSection> requested,
+            UserInfoSection section,
+            Supplier<List<T>> query) {
+        return requested.contains(section) ? sections.submit(section.field(), query) : sections.skip(section.field());
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // Pages are fetched with one extra row; its presence means there is a next page.
+    private FriendsResponse getFriendsResponse(List<GamerDto> friendDtoList, int pageSize) {
+        String nextCursor = null;
+        if (friendDtoList.size() > pageSize) {
+            friendDtoList = friendDtoList.subList(0, pageSize);
+            nextCursor = KeysetCursor.encode(friendDtoList.get(pageSize - 1).getUserId());
+        }
         FriendsResponse friendsResponse = new FriendsResponse();
         FriendsResponseBody body = new FriendsResponseBody();
         body.setFriends(friendDtoList);
+        body.setNextCursor(nextCursor);
         friendsResponse.setBody(new BaseBody<>(body));
         friendsResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
         return friendsResponse;
     }
 
-    private Gamer extractGamer(String token) {
-        String email = jwtService.extractUsername(token);
-        Optional<Gamer> gamerOptional = gamerRepository.findByEmail(email);
-        if (gamerOptional.isEmpty()) {
-            throw new BusinessException(TransactionCode.USER_NOT_FOUND);
-        }
-        return gamerOptional.get();
+    private Gamer getGamer(GamerPrincipal principal) {
+        return getGamerFromId(principal.userId());
     }
 
     private Gamer getGamerFromId(String id) {
@@ -500,44 +679,9 @@ public class DefaultApplicationService implements ApplicationService {
         return gamerOptional.get();
     }
 
-    private void mapKeywordsToDto(List<Keywords> keywordsList, List<KeywordsDto> keywordsDtoList) {
-        for (Keywords keywords : keywordsList) {
-            KeywordsDto keywordsDto = new KeywordsDto();
-            BeanUtils.copyProperties(keywords, keywordsDto);
-            keywordsDtoList.add(keywordsDto);
-        }
-    }
-
-    private GamesResponse getGamesResponse(List<Games> gamesList) {
-        GamesResponse gamesResponse = new GamesResponse();
-        GamesResponseBody body = new GamesResponseBody();
-        List<GamesDto> gamesDtoList = new ArrayList<>();
-        mapGamesToDto(gamesList, gamesDtoList);
-        body.setGames(gamesDtoList);
-        gamesResponse.setBody(new BaseBody<>(body));
-        gamesResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
-        return gamesResponse;
-    }
-
-    private void mapGamesToDto(List<Games> gamesList, List<GamesDto> gamesDtoList) {
-        for (Games games : gamesList) {
-            GamesDto gamesDto = new GamesDto();
-            BeanUtils.copyProperties(games, gamesDto);
-            gamesDtoList.add(gamesDto);
-        }
-    }
-
-    private void mapFriendsToDto(Set<Gamer> friends, List<GamerDto> friendDtoList) {
-        for (Gamer friend : friends) {
-            GamerDto friendDto = new GamerDto();
-            BeanUtils.copyProperties(friend, friendDto);
-            friendDto.setUsername(friend.getGamerUsername());
-            String avatar = avatarsRepository
-                    .findById(friend.getAvatar())
-                    .orElse(new Avatars())
-                    .getImage();
-            friendDto.setAvatar(avatar);
-            friendDtoList.add(friendDto);
+    private void checkGamerExists(String id) {
+        if (!gamerRepository.existsById(id)) {
+            throw new BusinessException(TransactionCode.USER_NOT_FOUND);
         }
     }
 }
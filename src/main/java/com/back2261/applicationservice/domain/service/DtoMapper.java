@@ -0,0 +1,85 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.infrastructure.entity.Achievements;
+import com.back2261.applicationservice.infrastructure.entity.Avatars;
+import com.back2261.applicationservice.infrastructure.entity.Games;
+import com.back2261.applicationservice.infrastructure.entity.Keywords;
+import com.back2261.applicationservice.interfaces.dto.AchievementsDto;
+import com.back2261.applicationservice.interfaces.dto.AvatarsDto;
+import com.back2261.applicationservice.interfaces.dto.GamesDto;
+import com.back2261.applicationservice.interfaces.dto.KeywordsDto;
+import com.back2261.applicationservice.interfaces.dto.SpecialAvatarsDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Entity to DTO conversions, written out field by field. List responses map every row, so this avoids the reflection
+ * and property descriptor lookups of {@code BeanUtils.copyProperties}; a field added to a DTO has to be added here too.
+ * Gamers and communities are projected into their DTOs by the repository queries and need no mapping.
+ */
+final class DtoMapper {
+
+    private DtoMapper() {}
+
+    static GamesDto toGamesDto(Games games) {
+        GamesDto gamesDto = new GamesDto();
+        gamesDto.setGameId(games.getGameId());
+        gamesDto.setGameName(games.getGameName());
+        gamesDto.setGameIcon(games.getGameIcon());
+        gamesDto.setCategory(games.getCategory());
+        gamesDto.setAvgVote(games.getAvgVote());
+        gamesDto.setDescription(games.getDescription());
+        return gamesDto;
+    }
+
+    static List<GamesDto> toGamesDtoList(Collection<Games> gamesList) {
+        List<GamesDto> gamesDtoList = new ArrayList<>(gamesList.size());
+        for (Games games : gamesList) {
+            gamesDtoList.add(toGamesDto(games));
+        }
+        return gamesDtoList;
+    }
+
+    static KeywordsDto toKeywordsDto(Keywords keywords) {
+        KeywordsDto keywordsDto = new KeywordsDto();
+        keywordsDto.setId(keywords.getId());
+        keywordsDto.setKeywordName(keywords.getKeywordName());
+        keywordsDto.setDescription(keywords.getDescription());
+        return keywordsDto;
+    }
+
+    static List<KeywordsDto> toKeywordsDtoList(Collection<Keywords> keywordsList) {
+        List<KeywordsDto> keywordsDtoList = new ArrayList<>(keywordsList.size());
+        for (Keywords keywords : keywordsList) {
+            keywordsDtoList.add(toKeywordsDto(keywords));
+        }
+        return keywordsDtoList;
+    }
+
+    static AchievementsDto toAchievementsDto(Achievements achievements, boolean isCollected, boolean isEarned) {
+        AchievementsDto achievementsDto = new AchievementsDto();
+        achievementsDto.setId(achievements.getId().toString());
+        achievementsDto.setAchievementName(achievements.getAchievementName());
+        achievementsDto.setValue(achievements.getValue());
+        achievementsDto.setDescription(achievements.getDescription());
+        achievementsDto.setIsCollected(isCollected);
+        achievementsDto.setIsEarned(isEarned);
+        return achievementsDto;
+    }
+
+    static AvatarsDto toAvatarsDto(Avatars avatars) {
+        AvatarsDto avatarsDto = new AvatarsDto();
+        avatarsDto.setId(avatars.getId().toString());
+        avatarsDto.setImage(avatars.getImage());
+        return avatarsDto;
+    }
+
+    static SpecialAvatarsDto toSpecialAvatarsDto(Avatars avatars) {
+        SpecialAvatarsDto avatarsDto = new SpecialAvatarsDto();
+        avatarsDto.setId(avatars.getId().toString());
+        avatarsDto.setImage(avatars.getImage());
+        avatarsDto.setPrice(String.valueOf(avatars.getPrice()));
+        return avatarsDto;
+    }
+}
@@ -0,0 +1,347 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.domain.event.FriendAddedEvent;
+import com.back2261.applicationservice.domain.event.FriendRemovedEvent;
+import com.back2261.applicationservice.domain.event.UserBlockedEvent;
+import com.back2261.applicationservice.domain.event.UserUnblockedEvent;
+import com.back2261.applicationservice.domain.model.GamerPair;
+import com.back2261.applicationservice.infrastructure.repository.BlockedFriendRepository;
+import com.back2261.applicationservice.infrastructure.repository.FriendRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory index of the {@code friends} and {@code blocked_friends} tables. Gamer ids are mapped to dense ints and
+ * every gamer's friends and blocked users are kept as sorted {@code int[]}s, so mutual friends are a merge of two
+ * arrays. Blocks are also kept in reverse, so everything a gamer is connected to can
+ * be listed in one pass. Between reloads the index is kept current by the relationship events
+ * published after each change this instance commits. Changes committed by other instances only reach it through the
+ * periodic full reload, which builds a new graph from the tables and swaps it in, replaying the events that arrived
+ * while it was reading. A reload streams the tables as id pairs and sorts every gamer's list once.
+ */
+@Slf4j
+@Component
+public class FriendGraph {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final FriendRepository friendRepository;
+    private final BlockedFriendRepository blockedFriendRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object reloading = new Object();
+
+    private Graph graph = new Graph();
+    private List<Consumer<Graph>> pending;
+    private volatile boolean loaded;
+
+    public FriendGraph(
+            FriendRepository friendRepository,
+            BlockedFriendRepository blockedFriendRepository,
+            PlatformTransactionManager transactionManager) {
+        this.friendRepository = friendRepository;
+        this.blockedFriendRepository = blockedFriendRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (reloading) {
+            if (!loaded) {
+                reload();
+            }
+        }
+    }
+
+    /**
+     * Reads both tables into a new graph and swaps it in. Until the first load succeeds a failure is thrown to the
+     * caller; after that the previous graph is kept.
+     */
+    @Scheduled(
+            initialDelayString = "${friend-graph.reload-interval:600000}",
+            fixedDelayString = "${friend-graph.reload-interval:600000}")
+    public void reload() {
+        synchronized (reloading) {
+            withWriteLock(() -> pending = new ArrayList<>());
+            Graph fresh;
+            try {
+                fresh = read();
+            } catch (RuntimeException e) {
+                withWriteLock(() -> pending = null);
+                if (!loaded) {
+                    throw e;
+                }
+                log.warn("Could not reload the friend graph, keeping the previous one", e);
+                return;
+            }
+            withWriteLock(() -> {
+                pending.forEach(change -> change.accept(fresh));
+                pending = null;
+                graph = fresh;
+                loaded = true;
+            });
+            log.info("Friend graph loaded {} gamers", fresh.ids.size());
+        }
+    }
+
+    private Graph read() {
+        Graph fresh = new Graph();
+        Pairs friendPairs = new Pairs();
+        Pairs blockedPairs = new Pairs();
+        // Streaming needs the connection held open, hence the transaction.
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<GamerPair> rows = friendRepository.streamAll()) {
+                rows.forEach(row -> friendPairs.add(fresh.idOf(row.userId()), fresh.idOf(row.otherId())));
+            }
+            try (Stream<GamerPair> rows = blockedFriendRepository.streamAll()) {
+                rows.forEach(row -> blockedPairs.add(fresh.idOf(row.userId()), fresh.idOf(row.otherId())));
+            }
+        });
+        fresh.friends.fill(friendPairs.from, friendPairs.to, friendPairs.size);
+        fresh.blocked.fill(blockedPairs.from, blockedPairs.to, blockedPairs.size);
+        fresh.blockedBy.fill(blockedPairs.to, blockedPairs.from, blockedPairs.size);
+        return fresh;
+    }
+
+    public List<String> mutualFriends(String userId, String otherId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            int[] mine = graph.friends.of(graph.ids.get(userId));
+            int[] theirs = graph.friends.of(graph.ids.get(otherId));
+            List<String> mutual = new ArrayList<>();
+            int i = 0;
+            int j = 0;
+            while (i < mine.length && j < theirs.length) {
+                if (mine[i] < theirs[j]) {
+                    i++;
+                } else if (mine[i] > theirs[j]) {
+                    j++;
+                } else {
+                    mutual.add(graph.userIds[mine[i]]);
+                    i++;
+                    j++;
+                }
+            }
+            return mutual;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The gamers {@code userId} is friends with, has blocked or has been blocked by, without duplicates. */
+    public Set<String> connections(String userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Integer id = graph.ids.get(userId);
+            Set<String> connections = new HashSet<>();
+            for (Edges edges : List.of(graph.friends, graph.blocked, graph.blockedBy)) {
+                for (int other : edges.of(id)) {
+                    connections.add(graph.userIds[other]);
+                }
+            }
+            return connections;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFriendAdded(FriendAddedEvent event) {
+        update(graph -> graph.friends.add(graph.idOf(event.userId()), graph.idOf(event.friendId())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFriendRemoved(FriendRemovedEvent event) {
+        update(graph -> graph.remove(graph.friends, event.userId(), event.friendId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserBlocked(UserBlockedEvent event) {
+        update(graph -> {
+            graph.remove(graph.friends, event.userId(), event.blockedId());
+            graph.remove(graph.friends, event.blockedId(), event.userId());
+            graph.block(event.userId(), event.blockedId());
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUnblocked(UserUnblockedEvent event) {
+        update(graph -> {
+            graph.remove(graph.blocked, event.userId(), event.blockedId());
+            graph.remove(graph.blockedBy, event.blockedId(), event.userId());
+        });
+    }
+
+    // A change is applied to the current graph and, while a reload is reading the tables, recorded so it can be
+    // replayed onto the new graph in case the read missed it. Before the initial load starts the rows are still in the
+    // database, so updates are dropped rather than applied to an empty graph.
+    private void update(Consumer<Graph> change) {
+        withWriteLock(() -> {
+            if (pending != null) {
+                pending.add(change);
+            }
+            if (loaded) {
+                change.accept(graph);
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    /** The dense id mapping and the relations; only touched under the write lock once it is published. */
+    private static final class Graph {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final Edges friends = new Edges();
+        private final Edges blocked = new Edges();
+        private final Edges blockedBy = new Edges();
+        private String[] userIds = new String[0];
+
+        void block(String userId, String blockedId) {
+            int blocker = idOf(userId);
+            int target = idOf(blockedId);
+            blocked.add(blocker, target);
+            blockedBy.add(target, blocker);
+        }
+
+        void remove(Edges edges, String userId, String otherId) {
+            Integer id = ids.get(userId);
+            Integer other = ids.get(otherId);
+            if (id != null && other != null) {
+                edges.remove(id, other);
+            }
+        }
+
+        int idOf(String userId) {
+            Integer id = ids.get(userId);
+            if (id != null) {
+                return id;
+            }
+            int next = ids.size();
+            if (next == userIds.length) {
+                int capacity = Math.max(16, next * 2);
+                userIds = Arrays.copyOf(userIds, capacity);
+                friends.grow(capacity);
+                blocked.grow(capacity);
+                blockedBy.grow(capacity);
+            }
+            userIds[next] = userId;
+            ids.put(userId, next);
+            return next;
+        }
+    }
+
+    /** One sorted {@code int[]} of neighbour ids per dense gamer id. */
+    private static final class Edges {
+
+        private int[][] lists = new int[0][];
+
+        int[] of(Integer id) {
+            return id == null ? EMPTY : lists[id];
+        }
+
+        void add(int id, int other) {
+            int[] list = lists[id];
+            int index = Arrays.binarySearch(list, other);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            int[] grown = new int[list.length + 1];
+            System.arraycopy(list, 0, grown, 0, insertAt);
+            grown[insertAt] = other;
+            System.arraycopy(list, insertAt, grown, insertAt + 1, list.length - insertAt);
+            lists[id] = grown;
+        }
+
+        void remove(int id, int other) {
+            int[] list = lists[id];
+            int index = Arrays.binarySearch(list, other);
+            if (index < 0) {
+                return;
+            }
+            int[] shrunk = new int[list.length - 1];
+            System.arraycopy(list, 0, shrunk, 0, index);
+            System.arraycopy(list, index + 1, shrunk, index, list.length - index - 1);
+            lists[id] = shrunk;
+        }
+
+        /**
+         * Replaces every list with the targets of the pairs {@code from[i] -> to[i]}, sized exactly and sorted once. The
+         * tables' primary keys rule out duplicate pairs.
+         */
+        void fill(int[] from, int[] to, int size) {
+            int[] degrees = new int[lists.length];
+            for (int i = 0; i < size; i++) {
+                degrees[from[i]]++;
+            }
+            for (int id = 0; id < lists.length; id++) {
+                lists[id] = degrees[id] == 0 ? EMPTY : new int[degrees[id]];
+            }
+            int[] filled = new int[lists.length];
+            for (int i = 0; i < size; i++) {
+                lists[from[i]][filled[from[i]]++] = to[i];
+            }
+            for (int[] list : lists) {
+                Arrays.sort(list);
+            }
+        }
+
+        void grow(int capacity) {
+            int length = lists.length;
+            lists = Arrays.copyOf(lists, capacity);
+            Arrays.fill(lists, length, capacity, EMPTY);
+        }
+    }
+
+    /** Dense id pairs in the order they were read, in two growable arrays. */
+    private static final class Pairs {
+
+        private int[] from = new int[1024];
+        private int[] to = new int[1024];
+        private int size;
+
+        void add(int id, int other) {
+            if (size == from.length) {
+                from = Arrays.copyOf(from, size * 2);
+                to = Arrays.copyOf(to, size * 2);
+            }
+            from[size] = id;
+            to[size] = other;
+            size++;
+        }
+    }
+}
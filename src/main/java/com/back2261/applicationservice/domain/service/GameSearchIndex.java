@@ -0,0 +1,145 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.interfaces.dto.GamesDto;
+import java.util.*;
+
+/**
+ * Immutable typeahead index over game names and categories. Every word is kept in a sorted token array, so a prefix
+ * lookup is two binary searches; queries that match no prefix fall back to trigram overlap, which tolerates typos and
+ * matches inside words. Matches are ranked by how well they match and then by {@code avgVote}.
+ */
+public final class GameSearchIndex {
+
+    private static final int NAME_PREFIX = 3;
+    private static final int WORD_PREFIX = 2;
+    private static final int TRIGRAM = 1;
+    private static final double MIN_TRIGRAM_SIMILARITY = 0.5;
+
+    private final List<GamesDto> games;
+    private final String[] names;
+    private final String[] tokens;
+    private final int[][] tokenPostings;
+    private final Map<String, int[]> trigramPostings;
+
+    private record Match(int game, int tier, double similarity) {}
+
+    public GameSearchIndex(List<GamesDto> games) {
+        this.games = List.copyOf(games);
+        this.names = new String[games.size()];
+        SortedMap<String, Set<Integer>> tokenMap = new TreeMap<>();
+        Map<String, Set<Integer>> trigramMap = new HashMap<>();
+        for (int i = 0; i < games.size(); i++) {
+            GamesDto game = games.get(i);
+            names[i] = normalize(game.getGameName());
+            String text = names[i] + " " + normalize(game.getCategory());
+            for (String token : text.split(" ")) {
+                if (!token.isEmpty()) {
+                    tokenMap.computeIfAbsent(token, key -> new TreeSet<>()).add(i);
+                }
+            }
+            for (String trigram : trigrams(text)) {
+                trigramMap.computeIfAbsent(trigram, key -> new TreeSet<>()).add(i);
+            }
+        }
+        this.tokens = tokenMap.keySet().toArray(new String[0]);
+        this.tokenPostings =
+                tokenMap.values().stream().map(GameSearchIndex::toArray).toArray(int[][]::new);
+        Map<String, int[]> trigrams = new HashMap<>();
+        trigramMap.forEach((trigram, postings) -> trigrams.put(trigram, toArray(postings)));
+        this.trigramPostings = trigrams;
+    }
+
+    public List<GamesDto> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Match> matches = prefixMatches(normalized);
+        if (matches.isEmpty()) {
+            matches = trigramMatches(normalized);
+        }
+        matches.sort(Comparator.comparingInt(Match::tier)
+                .thenComparingDouble(Match::similarity)
+                .reversed()
+                .thenComparing(
+                        match -> games.get(match.game()).getAvgVote(), Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(match -> names[match.game()]));
+        return matches.stream()
+                .limit(limit)
+                .map(match -> games.get(match.game()))
+                .toList();
+    }
+
+    // Every query word has to be the prefix of some word of the game's name or category.
+    private List<Match> prefixMatches(String query) {
+        BitSet candidates = null;
+        for (String word : query.split(" ")) {
+            BitSet wordMatches = new BitSet();
+            int from = lowerBound(word);
+            for (int i = from; i < tokens.length && tokens[i].startsWith(word); i++) {
+                for (int game : tokenPostings[i]) {
+                    wordMatches.set(game);
+                }
+            }
+            if (candidates == null) {
+                candidates = wordMatches;
+            } else {
+                candidates.and(wordMatches);
+            }
+        }
+        List<Match> matches = new ArrayList<>();
+        for (int game = candidates.nextSetBit(0); game >= 0; game = candidates.nextSetBit(game + 1)) {
+            matches.add(new Match(game, names[game].startsWith(query) ? NAME_PREFIX : WORD_PREFIX, 1));
+        }
+        return matches;
+    }
+
+    private List<Match> trigramMatches(String query) {
+        Set<String> queryTrigrams = trigrams(query);
+        int[] counts = new int[games.size()];
+        for (String trigram : queryTrigrams) {
+            for (int game : trigramPostings.getOrDefault(trigram, new int[0])) {
+                counts[game]++;
+            }
+        }
+        List<Match> matches = new ArrayList<>();
+        for (int game = 0; game < counts.length; game++) {
+            double similarity = (double) counts[game] / queryTrigrams.size();
+            if (similarity >= MIN_TRIGRAM_SIMILARITY) {
+                matches.add(new Match(game, TRIGRAM, similarity));
+            }
+        }
+        return matches;
+    }
+
+    private int lowerBound(String word) {
+        int index = Arrays.binarySearch(tokens, word);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // Words are padded with spaces so short queries and word boundaries still produce trigrams.
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    private static int[] toArray(Set<Integer> postings) {
+        return postings.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,51 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.infrastructure.repository.GamesRepository;
+import com.back2261.applicationservice.interfaces.dto.GamesDto;
+import com.back2261.applicationservice.interfaces.dto.GamesResponseBody;
+import com.back2261.applicationservice.interfaces.response.GamesResponse;
+import io.github.GameBuddyDevs.backendlibrary.base.BaseBody;
+import io.github.GameBuddyDevs.backendlibrary.base.Status;
+import io.github.GameBuddyDevs.backendlibrary.enums.TransactionCode;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GamesCatalog extends RefreshableCatalog<GamesCatalog.Snapshot> {
+
+    private final GamesRepository gamesRepository;
+
+    public record Snapshot(GamesResponse games, GamesResponse popularGames, GameSearchIndex searchIndex) {}
+
+    public GamesResponse getGames() {
+        return snapshot().games();
+    }
+
+    public GamesResponse getPopularGames() {
+        return snapshot().popularGames();
+    }
+
+    public GamesResponse searchGames(String query, int limit) {
+        return toGamesResponse(snapshot().searchIndex().search(query, limit));
+    }
+
+    // The search index is built from the same list as the catalog, so both are swapped in together.
+    @Override
+    protected Snapshot load() {
+        List<GamesDto> games = DtoMapper.toGamesDtoList(gamesRepository.findAll());
+        List<GamesDto> popularGames =
+                DtoMapper.toGamesDtoList(gamesRepository.findAllByIsPopularTrueOrderByAvgVoteDesc());
+        return new Snapshot(toGamesResponse(games), toGamesResponse(popularGames), new GameSearchIndex(games));
+    }
+
+    private GamesResponse toGamesResponse(List<GamesDto> gamesDtoList) {
+        GamesResponse gamesResponse = new GamesResponse();
+        GamesResponseBody body = new GamesResponseBody();
+        body.setGames(Collections.unmodifiableList(gamesDtoList));
+        gamesResponse.setBody(new BaseBody<>(body));
+        gamesResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
+        return gamesResponse;
+    }
+}
@@ -0,0 +1,30 @@
+package com.back2261.applicationservice.domain.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination. Encodes the sort key of the last row of a page so the next page can continue
+ * with {@code key > cursor}; clients should pass it back unchanged.
+ */
+final class KeysetCursor {
+
+    static final String START = "";
+
+    private KeysetCursor() {}
+
+    static String encode(String lastKey) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
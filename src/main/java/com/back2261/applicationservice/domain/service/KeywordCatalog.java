@@ -0,0 +1,63 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.infrastructure.entity.Keywords;
+import com.back2261.applicationservice.infrastructure.repository.KeywordsRepository;
+import com.back2261.applicationservice.interfaces.dto.KeywordsDto;
+import com.back2261.applicationservice.interfaces.dto.KeywordsResponseBody;
+import com.back2261.applicationservice.interfaces.response.KeywordsResponse;
+import io.github.GameBuddyDevs.backendlibrary.base.BaseBody;
+import io.github.GameBuddyDevs.backendlibrary.base.Status;
+import io.github.GameBuddyDevs.backendlibrary.enums.TransactionCode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class KeywordCatalog extends RefreshableCatalog<CatalogSnapshot<KeywordsResponse>> {
+
+    private final KeywordsRepository keywordsRepository;
+
+    @Override
+    protected CatalogSnapshot<KeywordsResponse> load() {
+        List<KeywordsDto> keywordsDtoList = new ArrayList<>();
+        keywordsRepository.findAll().stream()
+                .sorted(Comparator.comparing(Keywords::getKeywordName, Comparator.nullsLast(String::compareTo))
+                        .thenComparing(Keywords::getId, Comparator.nullsLast(UUID::compareTo)))
+                .forEach(keywords -> keywordsDtoList.add(DtoMapper.toKeywordsDto(keywords)));
+        String eTag = computeETag(keywordsDtoList);
+
+        CatalogSnapshot<KeywordsResponse> previous = current();
+        if (previous != null && previous.eTag().equals(eTag)) {
+            return previous;
+        }
+
+        KeywordsResponse keywordsResponse = new KeywordsResponse();
+        KeywordsResponseBody body = new KeywordsResponseBody();
+        body.setKeywords(Collections.unmodifiableList(keywordsDtoList));
+        keywordsResponse.setBody(new BaseBody<>(body));
+        keywordsResponse.setStatus(new Status(TransactionCode.DEFAULT_100));
+        long version = previous == null ? 1 : previous.version() + 1;
+        return new CatalogSnapshot<>(version, eTag, keywordsResponse);
+    }
+
+    private String computeETag(List<KeywordsDto> keywordsDtoList) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (KeywordsDto keywordsDto : keywordsDtoList) {
+                digest.update(String.valueOf(keywordsDto.getId()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(String.valueOf(keywordsDto.getKeywordName()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(String.valueOf(keywordsDto.getDescription()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.config.VirtualThreadConfig;
+import com.back2261.applicationservice.infrastructure.entity.OutboxNotification;
+import com.back2261.applicationservice.infrastructure.repository.OutboxNotificationRepository;
+import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the notification outbox in the background. A batch is claimed in a short transaction that skips rows locked
+ * by other instances and leases the claimed ones by moving their next attempt ahead, so neither a lock nor a
+ * connection is held while the notification service is called. The lease lasts as long as delivering a full batch one
+ * after another with every call running into the Feign connect and read timeouts, plus {@code lease-margin}, so another
+ * instance cannot claim rows of a batch that is still being delivered. The batch is then delivered outside any
+ * transaction and settled in a second short one: delivered rows are deleted, failed ones are retried with
+ * exponential backoff until {@code maxAttempts} is reached, after which the row is kept as {@code FAILED}. If the
+ * instance dies in between, the lease runs out and the batch is delivered again. Deliveries run one after another
+ * unless the virtual thread executor is enabled, in which case a batch is delivered concurrently.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final OutboxNotificationRepository outboxNotificationRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private Executor deliveryExecutor = Runnable::run;
+
+    public NotificationDispatcher(
+            OutboxNotificationRepository outboxNotificationRepository,
+            NotificationService notificationService,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification-outbox.batch-size:50}") int batchSize,
+            @Value("${notification-outbox.max-attempts:8}") int maxAttempts,
+            @Value("${notification-outbox.initial-backoff:2000}") long initialBackoffMillis,
+            @Value("${notification-outbox.max-backoff:600000}") long maxBackoffMillis,
+            @Value("${notification-outbox.lease-margin:60000}") long leaseMarginMillis,
+            @Value("${feign.client.config.default.connectTimeout:10000}") long connectTimeoutMillis,
+            @Value("${feign.client.config.default.readTimeout:60000}") long readTimeoutMillis) {
+        this.outboxNotificationRepository = outboxNotificationRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(batchSize * (connectTimeoutMillis + readTimeoutMillis) + leaseMarginMillis);
+    }
+
+    @Autowired(required = false)
+    public void setDeliveryExecutor(@Qualifier(VirtualThreadConfig.EXECUTOR_BEAN_NAME) Executor deliveryExecutor) {
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${notification-outbox.poll-interval:1000}")
+    public void dispatchPending() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == batchSize);
+    }
+
+    int dispatchBatch() {
+        Instant now = Instant.now();
+        List<OutboxNotification> claimed = transactionTemplate.execute(status -> claim(now));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, RuntimeException> failures = deliver(claimed);
+        transactionTemplate.executeWithoutResult(status -> settle(claimed, failures, now));
+        return claimed.size();
+    }
+
+    private List<OutboxNotification> claim(Instant now) {
+        List<OutboxNotification> due = outboxNotificationRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        Instant leaseEnd = now.plus(lease);
+        due.forEach(notification -> notification.setNextAttemptAt(leaseEnd));
+        return due;
+    }
+
+    private Map<UUID, RuntimeException> deliver(List<OutboxNotification> claimed) {
+        Map<UUID, CompletableFuture<Void>> deliveries = new LinkedHashMap<>();
+        for (OutboxNotification notification : claimed) {
+            SendNotificationTokenRequest request = toRequest(notification);
+            deliveries.put(
+                    notification.getId(),
+                    CompletableFuture.runAsync(() -> notificationService.sendToToken(request), deliveryExecutor));
+        }
+        Map<UUID, RuntimeException> failures = new HashMap<>();
+        deliveries.forEach((id, delivery) -> {
+            try {
+                delivery.join();
+            } catch (CompletionException e) {
+                failures.put(id, e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e);
+            }
+        });
+        return failures;
+    }
+
+    private void settle(List<OutboxNotification> claimed, Map<UUID, RuntimeException> failures, Instant now) {
+        List<UUID> delivered = claimed.stream()
+                .map(OutboxNotification::getId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        if (!delivered.isEmpty()) {
+            outboxNotificationRepository.deleteAllByIdInBatch(delivered);
+        }
+        if (!failures.isEmpty()) {
+            for (OutboxNotification notification : outboxNotificationRepository.findAllById(failures.keySet())) {
+                scheduleRetry(notification, now, failures.get(notification.getId()));
+            }
+        }
+    }
+
+    private void scheduleRetry(OutboxNotification notification, Instant now, RuntimeException e) {
+        int attempts = notification.getAttempts() + 1;
+        notification.setAttempts(attempts);
+        notification.setLastError(truncate(String.valueOf(e.getMessage())));
+        if (attempts >= maxAttempts) {
+            notification.setStatus(OutboxNotification.DeliveryStatus.FAILED);
+            log.warn("Giving up on notification {} after {} attempts", notification.getId(), attempts, e);
+        } else {
+            notification.setNextAttemptAt(now.plus(backoff(attempts)));
+            log.debug("Notification {} failed, attempt {} of {}", notification.getId(), attempts, maxAttempts, e);
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private SendNotificationTokenRequest toRequest(OutboxNotification notification) {
+        return new SendNotificationTokenRequest(
+                notification.getToken(), notification.getTitle(), notification.getBody(), notification.getImageUrl());
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
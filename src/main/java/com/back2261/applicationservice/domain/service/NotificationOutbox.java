@@ -0,0 +1,43 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.infrastructure.entity.OutboxNotification;
+import com.back2261.applicationservice.infrastructure.repository.BatchInsertRepository;
+import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records push notifications in the outbox table. Callers enqueue inside their own transaction so a notification is
+ * stored if and only if the business change commits; {@link NotificationDispatcher} delivers it afterwards. Rows are
+ * persisted without the existence check of {@code save}, so the notifications of a bulk operation are written as one
+ * JDBC batch instead of a select and an insert each.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final BatchInsertRepository batchInsertRepository;
+
+    public void enqueue(SendNotificationTokenRequest tokenRequest) {
+        if (tokenRequest.getToken() == null || tokenRequest.getToken().isBlank()) {
+            log.debug("Skipping notification '{}' for a gamer without an FCM token", tokenRequest.getTitle());
+            return;
+        }
+        Instant now = Instant.now();
+        OutboxNotification notification = new OutboxNotification();
+        notification.setId(UUID.randomUUID());
+        notification.setToken(tokenRequest.getToken());
+        notification.setTitle(tokenRequest.getTitle());
+        notification.setBody(tokenRequest.getBody());
+        notification.setImageUrl(tokenRequest.getImageUrl());
+        notification.setStatus(OutboxNotification.DeliveryStatus.PENDING);
+        notification.setNextAttemptAt(now);
+        notification.setCreatedDate(now);
+        batchInsertRepository.persistAll(List.of(notification));
+    }
+}
@@ -0,0 +1,55 @@
+package com.back2261.applicationservice.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Keeps an immutable snapshot of a small, read-mostly table in memory. Readers always get the current snapshot
+ * without locking; a refresh builds a complete new snapshot and swaps it in, so a failed reload keeps serving the
+ * previous one.
+ */
+@Slf4j
+public abstract class RefreshableCatalog<S> {
+
+    private volatile S snapshot;
+
+    protected abstract S load();
+
+    protected S current() {
+        return snapshot;
+    }
+
+    public S snapshot() {
+        S current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${catalog.refresh-interval:300000}",
+            fixedDelayString = "${catalog.refresh-interval:300000}")
+    public void refresh() {
+        try {
+            S loaded = load();
+            synchronized (this) {
+                snapshot = loaded;
+            }
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Could not refresh {}, keeping the previous snapshot",
+                    getClass().getSimpleName(),
+                    e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.back2261.applicationservice.domain.service;
+
+import com.back2261.applicationservice.config.QueryCounter;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Loads the independent sections of a response concurrently on a bounded pool. Every section of a batch shares one
+ * deadline; a section that fails or is not done by then is reported as incomplete and read as an empty list, so one
+ * slow query cannot hold up the whole response. Each section runs with its own entity manager whose timeout is the
+ * time left until the deadline, so its queries are cancelled by the database instead of running on after the response
+ * has been sent. The pool never has more threads than half the connection pool, and when it is saturated a section is
+ * reported as incomplete rather than loaded by the caller. Inside a transaction every section is loaded on the calling
+ * thread so it sees the transaction's own writes.
+ */
+@Slf4j
+@Component
+public class SectionLoader {
+
+    private final ThreadPoolExecutor executor;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Duration timeout;
+
+    public SectionLoader(
+            EntityManagerFactory entityManagerFactory,
+            @Value("${user-info.section-pool-size:5}") int poolSize,
+            @Value("${user-info.section-queue-capacity:256}") int queueCapacity,
+            @Value("${user-info.section-timeout:2000}") long timeoutMillis,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        // The other half of the connections is left to the request threads, which run their own queries while their
+        // sections load.
+        int threadCount = Math.max(1, Math.min(poolSize, connectionPoolSize / 2));
+        if (threadCount < poolSize) {
+            log.warn(
+                    "Section pool limited to {} threads by the connection pool of {}", threadCount, connectionPoolSize);
+        }
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "section-loader-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.entityManagerFactory = entityManagerFactory;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    public Batch batch() {
+        return new Batch(System.nanoTime() + timeout.toNanos());
+    }
+
+    int poolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public final class Batch {
+
+        private final long deadline;
+        private final Set<String> incomplete = new LinkedHashSet<>();
+
+        private Batch(long deadline) {
+            this.deadline = deadline;
+        }
+
+        public <T> Section<T> submit(String name, Supplier<List<T>> query) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                return load(name, query);
+            }
+            Supplier<List<T>> counted = QueryCounter.propagate(query);
+            try {
+                return new Section<>(this, name, executor.submit(() -> withDeadline(counted)));
+            } catch (RejectedExecutionException e) {
+                return new Section<>(this, name, CompletableFuture.failedFuture(e));
+            }
+        }
+
+        /** Loads a section on the calling thread, for data that is already in memory and not worth a hand-off. */
+        public <T> Section<T> load(String name, Supplier<List<T>> read) {
+            try {
+                return new Section<>(this, name, CompletableFuture.completedFuture(read.get()));
+            } catch (RuntimeException e) {
+                return new Section<>(this, name, CompletableFuture.failedFuture(e));
+            }
+        }
+
+        /** A section that was not requested; it is not loaded and reads as {@code null}. */
+        public <T> Section<T> skip(String name) {
+            return new Section<>(this, name, null);
+        }
+
+        /** Names of the sections read so far that failed or timed out, in the order they were read. */
+        public List<String> incomplete() {
+            return List.copyOf(incomplete);
+        }
+
+        public void cancel(Section<?>... sections) {
+            for (Section<?> section : sections) {
+                if (section.future != null) {
+                    section.future.cancel(true);
+                }
+            }
+        }
+
+        // Spring applies the holder's remaining time to every query as its timeout hint. JDBC timeouts are whole
+        // seconds and Hibernate rounds the hint to the nearest one, so it is rounded up to keep a timeout in place.
+        private <T> List<T> withDeadline(Supplier<List<T>> query) throws TimeoutException {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+            if (remainingMillis <= 0) {
+                throw new TimeoutException("Deadline passed before the section started");
+            }
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            EntityManagerHolder holder = new EntityManagerHolder(entityManager);
+            holder.setTimeoutInMillis(
+                    TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999)));
+            TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+            try {
+                return query.get();
+            } finally {
+                TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+                EntityManagerFactoryUtils.closeEntityManager(entityManager);
+            }
+        }
+
+        private long remainingNanos() {
+            return Math.max(0, deadline - System.nanoTime());
+        }
+    }
+
+    public static final class Section<T> {
+
+        private final Batch batch;
+        private final String name;
+        private final Future<List<T>> future;
+
+        private Section(Batch batch, String name, Future<List<T>> future) {
+            this.batch = batch;
+            this.name = name;
+            this.future = future;
+        }
+
+        public List<T> get() {
+            if (future == null) {
+                return null;
+            }
+            try {
+                return future.get(batch.remainingNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Section {} did not load in time", name);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RejectedExecutionException) {
+                    log.warn("Section {} was not loaded, the section pool is saturated", name);
+                } else {
+                    log.warn("Section {} failed to load", name, e.getCause());
+                }
+            } catch (CancellationException e) {
+                log.warn("Section {} was cancelled", name);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batch.incomplete.add(name);
+            return List.of();
+        }
+    }
+}
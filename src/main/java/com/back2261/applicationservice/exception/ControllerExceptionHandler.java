@@ -47,6 +47,18 @@ public class ControllerExceptionHandler {
         }
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public final ResponseEntity<DefaultMessageResponse> handleIllegalArgumentException(
+            IllegalArgumentException ex, HttpServletRequest request) {
+        DefaultMessageResponse response = new DefaultMessageResponse();
+        Status status = new Status();
+        status.setMessage(ex.getMessage());
+        status.setSuccess(false);
+        status.setCode(String.valueOf(HttpStatus.BAD_REQUEST.value()));
+        response.setStatus(status);
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public final ResponseEntity<DefaultMessageResponse> handleCustomBusinessException(
             BusinessException ex, HttpServletRequest request) {
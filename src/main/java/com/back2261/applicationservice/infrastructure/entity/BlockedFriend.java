@@ -1,24 +1,39 @@
 package com.back2261.applicationservice.infrastructure.entity;
 
 import jakarta.persistence.*;
+import java.io.Serializable;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "blocked_friends")
+@Table(
+        name = "blocked_friends",
+        indexes = @Index(name = "idx_blocked_friends_blocked_gamer", columnList = "blocked_user_id, gamer_id"))
+@IdClass(BlockedFriend.BlockedFriendId.class)
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class BlockedFriend {
 
+    @Id
+    @Column(name = "gamer_id")
+    private String gamerId;
+
     @Id
     @Column(name = "blocked_user_id")
     private String blockedId;
 
-    @ManyToOne
-    @JoinColumn(name = "gamer_id", nullable = false)
-    private Gamer gamer;
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class BlockedFriendId implements Serializable {
+        private String gamerId;
+        private String blockedId;
+    }
 }
@@ -0,0 +1,38 @@
+package com.back2261.applicationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "bought_avatars")
+@IdClass(BoughtAvatar.BoughtAvatarId.class)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoughtAvatar {
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Id
+    @Column(name = "avatar_id")
+    private UUID avatarId;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class BoughtAvatarId implements Serializable {
+        private String userId;
+        private UUID avatarId;
+    }
+}
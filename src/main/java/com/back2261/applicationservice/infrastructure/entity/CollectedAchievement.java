@@ -0,0 +1,38 @@
+package com.back2261.applicationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "gamer_collected_achievements")
+@IdClass(CollectedAchievement.CollectedAchievementId.class)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CollectedAchievement {
+
+    @Id
+    @Column(name = "gamer_id")
+    private String gamerId;
+
+    @Id
+    @Column(name = "achievement_id")
+    private UUID achievementId;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CollectedAchievementId implements Serializable {
+        private String gamerId;
+        private UUID achievementId;
+    }
+}
@@ -1,23 +1,39 @@
 package com.back2261.applicationservice.infrastructure.entity;
 
 import jakarta.persistence.*;
+import java.io.Serializable;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "friends")
+// The primary key serves lookups by user_id; this index serves the reverse side, such as removing a gamer from
+// the friend lists of others.
+@Table(name = "friends", indexes = @Index(name = "idx_friends_friend_user", columnList = "friend_id, user_id"))
+@IdClass(Friend.FriendId.class)
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class Friend {
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
     @Id
     @Column(name = "friend_id")
     private String friendId;
 
-    @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
-    private Gamer gamer;
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class FriendId implements Serializable {
+        private String userId;
+        private String friendId;
+    }
 }
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,6 +15,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 @Entity
 @Table(name = "gamer", schema = "schauth")
+@EntityListeners(GamerEntityListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -40,6 +43,7 @@ public class Gamer implements UserDetails {
     private String fcmToken;
     private Integer coin;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "gamer.keywords")
     @ManyToMany
     @JoinTable(
             name = "gamer_keywords_join",
@@ -48,6 +52,7 @@ public class Gamer implements UserDetails {
             inverseJoinColumns = @JoinColumn(name = "keyword_id"))
     private Set<Keywords> keywords;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "gamer.likedgames")
     @ManyToMany
     @JoinTable(
             name = "gamer_games_join",
@@ -77,6 +82,7 @@ public class Gamer implements UserDetails {
             inverseJoinColumns = @JoinColumn(name = "blocked_user_id"))
     private Set<Gamer> blockedFriends;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "gamer.earned-achievements")
     @ManyToMany
     @JoinTable(
             name = "gamer_earned_achievements",
@@ -84,6 +90,7 @@ public class Gamer implements UserDetails {
             inverseJoinColumns = @JoinColumn(name = "achievement_id"))
     private Set<Achievements> gamerEarnedAchievements;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "gamer.collected-achievements")
     @ManyToMany
     @JoinTable(
             name = "gamer_collected_achievements",
@@ -91,6 +98,7 @@ public class Gamer implements UserDetails {
             inverseJoinColumns = @JoinColumn(name = "achievement_id"))
     private Set<Achievements> gamerCollectedAchievements;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "gamer.bought-avatars")
     @ManyToMany
     @JoinTable(
             name = "bought_avatars",
@@ -0,0 +1,25 @@
+package com.back2261.applicationservice.infrastructure.entity;
+
+import com.back2261.applicationservice.domain.event.GamerChangedEvent;
+import com.back2261.applicationservice.domain.event.GamerRemovedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RequiredArgsConstructor
+public class GamerEntityListener {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @PostUpdate
+    public void onGamerChanged(Gamer gamer) {
+        applicationEventPublisher.publishEvent(
+                new GamerChangedEvent(gamer.getUserId(), gamer.getEmail(), gamer.getIsBlocked()));
+    }
+
+    @PostRemove
+    public void onGamerRemoved(Gamer gamer) {
+        applicationEventPublisher.publishEvent(new GamerRemovedEvent(gamer.getUserId(), gamer.getEmail()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.back2261.applicationservice.infrastructure.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+        name = "notification_outbox",
+        indexes = @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxNotification {
+
+    public enum DeliveryStatus {
+        PENDING,
+        FAILED
+    }
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String token;
+
+    private String title;
+
+    @Column(length = 1024)
+    private String body;
+
+    private String imageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeliveryStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    private Instant createdDate;
+
+    @Column(length = 1024)
+    private String lastError;
+}
@@ -1,24 +1,39 @@
 package com.back2261.applicationservice.infrastructure.entity;
 
 import jakarta.persistence.*;
+import java.io.Serializable;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "waiting_friends")
+@Table(
+        name = "waiting_friends",
+        indexes = @Index(name = "idx_waiting_friends_requested_user", columnList = "requested_id, user_id"))
+@IdClass(WaitingFriend.WaitingFriendId.class)
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class WaitingFriend {
 
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
     @Id
     @Column(name = "requested_id")
     private String waitingFriendId;
 
-    @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
-    private Gamer gamer;
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class WaitingFriendId implements Serializable {
+        private String userId;
+        private String waitingFriendId;
+    }
 }
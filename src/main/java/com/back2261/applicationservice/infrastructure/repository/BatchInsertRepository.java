@@ -0,0 +1,21 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Persists new rows without the existence check {@code save} does for assigned ids, so they are written as JDBC batch
+ * inserts ({@code hibernate.jdbc.batch_size}) when the transaction flushes.
+ */
+@Repository
+public class BatchInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void persistAll(Collection<?> rows) {
+        rows.forEach(entityManager::persist);
+    }
+}
@@ -0,0 +1,51 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import com.back2261.applicationservice.domain.model.GamerPair;
+import com.back2261.applicationservice.infrastructure.entity.BlockedFriend;
+import com.back2261.applicationservice.interfaces.dto.GamerDto;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BlockedFriendRepository extends JpaRepository<BlockedFriend, BlockedFriend.BlockedFriendId> {
+
+    @Query("select new com.back2261.applicationservice.interfaces.dto.GamerDto("
+            + "g.userId, g.gamerUsername, g.age, g.country, a.image) "
+            + "from BlockedFriend b join Gamer g on g.userId = b.blockedId left join Avatars a on a.id = g.avatar "
+            + "where b.gamerId = :userId and b.blockedId > :after order by b.blockedId")
+    List<GamerDto> findBlockedFriendsPage(
+            @Param("userId") String userId, @Param("after") String after, Pageable pageable);
+
+    boolean existsByGamerIdAndBlockedId(String gamerId, String blockedId);
+
+    @Modifying
+    @Query("delete from BlockedFriend b where b.gamerId = :gamerId and b.blockedId = :blockedId")
+    int deleteByGamerIdAndBlockedId(@Param("gamerId") String gamerId, @Param("blockedId") String blockedId);
+
+    @Query("select b.blockedId from BlockedFriend b where b.gamerId = :gamerId and b.blockedId in :ids")
+    Set<String> findBlockedIdsIn(@Param("gamerId") String gamerId, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from BlockedFriend b where b.gamerId = :gamerId and b.blockedId in :ids")
+    int deleteByGamerIdAndBlockedIdIn(@Param("gamerId") String gamerId, @Param("ids") Collection<String> ids);
+
+    @Query("select case when b.gamerId = :userId then b.blockedId else b.gamerId end from BlockedFriend b "
+            + "where b.gamerId = :userId or b.blockedId = :userId")
+    Set<String> findBlockIds(@Param("userId") String userId);
+
+    /** Every row as a scalar pair, streamed so a full read of the table neither builds entities nor buffers it. */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("select new com.back2261.applicationservice.domain.model.GamerPair(b.gamerId, b.blockedId) "
+            + "from BlockedFriend b")
+    Stream<GamerPair> streamAll();
+}
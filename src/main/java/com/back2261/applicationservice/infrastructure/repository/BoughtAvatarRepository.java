@@ -0,0 +1,20 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import com.back2261.applicationservice.infrastructure.entity.BoughtAvatar;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BoughtAvatarRepository extends JpaRepository<BoughtAvatar, BoughtAvatar.BoughtAvatarId> {
+
+    boolean existsByUserIdAndAvatarId(String userId, UUID avatarId);
+
+    /** Plain insert, unlike {@code save}, so a concurrent duplicate fails on the primary key instead of merging. */
+    @Modifying
+    @Query("insert into BoughtAvatar (userId, avatarId) values (:userId, :avatarId)")
+    int insert(@Param("userId") String userId, @Param("avatarId") UUID avatarId);
+}
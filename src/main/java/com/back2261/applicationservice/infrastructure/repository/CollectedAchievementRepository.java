@@ -0,0 +1,21 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import com.back2261.applicationservice.infrastructure.entity.CollectedAchievement;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CollectedAchievementRepository
+        extends JpaRepository<CollectedAchievement, CollectedAchievement.CollectedAchievementId> {
+
+    boolean existsByGamerIdAndAchievementId(String gamerId, UUID achievementId);
+
+    /** Plain insert, unlike {@code save}, so a concurrent duplicate fails on the primary key instead of merging. */
+    @Modifying
+    @Query("insert into CollectedAchievement (gamerId, achievementId) values (:gamerId, :achievementId)")
+    int insert(@Param("gamerId") String gamerId, @Param("achievementId") UUID achievementId);
+}
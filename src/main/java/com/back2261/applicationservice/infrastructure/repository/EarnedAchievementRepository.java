@@ -0,0 +1,25 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import com.back2261.applicationservice.infrastructure.entity.EarnedAchievement;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EarnedAchievementRepository
+        extends JpaRepository<EarnedAchievement, EarnedAchievement.EarnedAchievementId> {
+
+    /**
+     * Inserts the join row unless the gamer has already earned the achievement, without loading or updating the
+     * gamer. Returns 0 when it was already earned or the gamer or achievement does not exist.
+     */
+    @Modifying
+    @Query("insert into EarnedAchievement (gamerId, achievementId) "
+            + "select g.userId, a.id from Gamer g, Achievements a "
+            + "where g.userId = :gamerId and a.id = :achievementId and not exists ("
+            + "select e.gamerId from EarnedAchievement e where e.gamerId = g.userId and e.achievementId = a.id)")
+    int insertIfNotEarned(@Param("gamerId") String gamerId, @Param("achievementId") UUID achievementId);
+}
@@ -0,0 +1,51 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import com.back2261.applicationservice.domain.model.GamerPair;
+import com.back2261.applicationservice.infrastructure.entity.Friend;
+import com.back2261.applicationservice.interfaces.dto.GamerDto;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FriendRepository extends JpaRepository<Friend, Friend.FriendId> {
+
+    @Query("select new com.back2261.applicationservice.interfaces.dto.GamerDto("
+            + "g.userId, g.gamerUsername, g.age, g.country, a.image) "
+            + "from Friend f join Gamer g on g.userId = f.friendId left join Avatars a on a.id = g.avatar "
+            + "where f.userId = :userId and f.friendId > :after order by f.friendId")
+    List<GamerDto> findFriendsPage(@Param("userId") String userId, @Param("after") String after, Pageable pageable);
+
+    long countByUserId(String userId);
+
+    boolean existsByUserIdAndFriendId(String userId, String friendId);
+
+    @Modifying
+    @Query("delete from Friend f where f.userId = :userId and f.friendId = :friendId")
+    int deleteByUserIdAndFriendId(@Param("userId") String userId, @Param("friendId") String friendId);
+
+    @Query("select f.friendId from Friend f where f.userId = :userId and f.friendId in :ids")
+    Set<String> findFriendIdsIn(@Param("userId") String userId, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from Friend f where f.userId = :userId and f.friendId in :ids")
+    int deleteByUserIdAndFriendIdIn(@Param("userId") String userId, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from Friend f where f.userId in :ids and f.friendId = :userId")
+    int deleteByUserIdInAndFriendId(@Param("ids") Collection<String> ids, @Param("userId") String userId);
+
+    /** Every row as a scalar pair, streamed so a full read of the table neither builds entities nor buffers it. */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("select new com.back2261.applicationservice.domain.model.GamerPair(f.userId, f.friendId) from Friend f")
+    Stream<GamerPair> streamAll();
+}
@@ -1,11 +1,75 @@
 package com.back2261.applicationservice.infrastructure.repository;
 
+import com.back2261.applicationservice.domain.model.GamerFeature;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
 import com.back2261.applicationservice.infrastructure.entity.Gamer;
+import com.back2261.applicationservice.interfaces.dto.CommunityDto;
+import com.back2261.applicationservice.interfaces.dto.GamerDto;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GamerRepository extends JpaRepository<Gamer, String> {
     Optional<Gamer> findByEmail(String email);
+
+    @Query("select new com.back2261.applicationservice.domain.model.GamerPrincipal(g.userId, g.email, g.isBlocked) "
+            + "from Gamer g where g.email = :email")
+    Optional<GamerPrincipal> findPrincipalByEmail(@Param("email") String email);
+
+    // Fetching the collection with its owner, rather than selecting the elements, also puts it in the second-level
+    // cache, so the next read of it needs no query (see GamerCollectionCache).
+    @Query("select u from Gamer u left join fetch u.likedgames where u.userId = :userId")
+    Optional<Gamer> findWithLikedGames(@Param("userId") String userId);
+
+    @Query("select u from Gamer u left join fetch u.keywords where u.userId = :userId")
+    Optional<Gamer> findWithKeywords(@Param("userId") String userId);
+
+    @Query("select u from Gamer u left join fetch u.gamerEarnedAchievements where u.userId = :userId")
+    Optional<Gamer> findWithEarnedAchievements(@Param("userId") String userId);
+
+    @Modifying
+    @Query("update Gamer g set g.coin = g.coin - :amount where g.userId = :userId and g.coin >= :amount")
+    int debitCoin(@Param("userId") String userId, @Param("amount") int amount);
+
+    @Modifying
+    @Query("update Gamer g set g.coin = g.coin + :amount where g.userId = :userId")
+    int creditCoin(@Param("userId") String userId, @Param("amount") int amount);
+
+    @Query("select count(a) > 0 from Gamer u join u.gamerEarnedAchievements a "
+            + "where u.userId = :userId and a.id = :achievementId")
+    boolean hasEarnedAchievement(@Param("userId") String userId, @Param("achievementId") UUID achievementId);
+
+    @Query("select count(a) from Gamer u join u.boughtAvatars a where u.userId = :userId")
+    long countBoughtAvatars(@Param("userId") String userId);
+
+    @Query("select new com.back2261.applicationservice.interfaces.dto.CommunityDto("
+            + "cast(c.communityId as String), c.name, c.communityAvatar, "
+            + "case when c.owner.userId = :userId then true else false end) "
+            + "from Gamer u join u.joinedCommunities c where u.userId = :userId")
+    List<CommunityDto> findJoinedCommunities(@Param("userId") String userId);
+
+    @Query("select new com.back2261.applicationservice.interfaces.dto.GamerDto("
+            + "f.userId, f.gamerUsername, f.age, f.country, a.image) "
+            + "from Gamer u join u.friends f left join Avatars a on a.id = f.avatar where u.userId = :userId")
+    List<GamerDto> findFriends(@Param("userId") String userId);
+
+    @Query("select new com.back2261.applicationservice.interfaces.dto.GamerDto("
+            + "g.userId, g.gamerUsername, g.age, g.country, a.image) "
+            + "from Gamer g left join Avatars a on a.id = g.avatar where g.userId in :userIds order by g.userId")
+    List<GamerDto> findGamerDtos(@Param("userIds") Collection<String> userIds);
+
+    @Query("select new com.back2261.applicationservice.domain.model.GamerFeature(u.userId, cast(k.id as String)) "
+            + "from Gamer u join u.keywords k")
+    List<GamerFeature> findKeywordFeatures();
+
+    @Query("select new com.back2261.applicationservice.domain.model.GamerFeature(u.userId, g.gameId) "
+            + "from Gamer u join u.likedgames g")
+    List<GamerFeature> findGameFeatures();
 }
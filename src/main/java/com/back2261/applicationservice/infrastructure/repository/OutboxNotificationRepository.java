@@ -0,0 +1,26 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import com.back2261.applicationservice.infrastructure.entity.OutboxNotification;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxNotificationRepository extends JpaRepository<OutboxNotification, UUID> {
+
+    // Lock timeout -2 is SKIP LOCKED, so several instances can drain the outbox without picking the same rows.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select n from OutboxNotification n where n.status = 'PENDING' and n.nextAttemptAt <= :now "
+            + "order by n.nextAttemptAt")
+    List<OutboxNotification> findDueForUpdate(@Param("now") Instant now, Pageable pageable);
+}
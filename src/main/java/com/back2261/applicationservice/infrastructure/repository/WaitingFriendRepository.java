@@ -0,0 +1,46 @@
+package com.back2261.applicationservice.infrastructure.repository;
+
+import com.back2261.applicationservice.infrastructure.entity.WaitingFriend;
+import com.back2261.applicationservice.interfaces.dto.GamerDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WaitingFriendRepository extends JpaRepository<WaitingFriend, WaitingFriend.WaitingFriendId> {
+
+    @Query("select new com.back2261.applicationservice.interfaces.dto.GamerDto("
+            + "g.userId, g.gamerUsername, g.age, g.country, a.image) "
+            + "from WaitingFriend w join Gamer g on g.userId = w.waitingFriendId left join Avatars a on a.id = g.avatar "
+            + "where w.userId = :userId and w.waitingFriendId > :after order by w.waitingFriendId")
+    List<GamerDto> findWaitingFriendsPage(
+            @Param("userId") String userId, @Param("after") String after, Pageable pageable);
+
+    boolean existsByUserIdAndWaitingFriendId(String userId, String waitingFriendId);
+
+    @Modifying
+    @Query("delete from WaitingFriend w where w.userId = :userId and w.waitingFriendId = :waitingFriendId")
+    int deleteByUserIdAndWaitingFriendId(
+            @Param("userId") String userId, @Param("waitingFriendId") String waitingFriendId);
+
+    @Query("select w.waitingFriendId from WaitingFriend w where w.userId = :userId and w.waitingFriendId in :ids")
+    Set<String> findWaitingFriendIdsIn(@Param("userId") String userId, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from WaitingFriend w where w.userId = :userId and w.waitingFriendId in :ids")
+    int deleteByUserIdAndWaitingFriendIdIn(@Param("userId") String userId, @Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from WaitingFriend w where w.userId in :ids and w.waitingFriendId = :userId")
+    int deleteByUserIdInAndWaitingFriendId(@Param("ids") Collection<String> ids, @Param("userId") String userId);
+
+    @Query("select case when w.userId = :userId then w.waitingFriendId else w.userId end from WaitingFriend w "
+            + "where w.userId = :userId or w.waitingFriendId = :userId")
+    Set<String> findPendingIds(@Param("userId") String userId);
+}
@@ -0,0 +1,21 @@
+package com.back2261.applicationservice.interfaces.dto;
+
+import io.github.GameBuddyDevs.backendlibrary.base.BaseModel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BuddySuggestionDto extends BaseModel {
+
+    private String userId;
+    private String username;
+    private Integer age;
+    private String country;
+    private String avatar;
+    private Integer score;
+}
@@ -1,10 +1,14 @@
 package com.back2261.applicationservice.interfaces.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Setter
 @Getter
+@AllArgsConstructor
+@NoArgsConstructor
 public class CommunityDto {
 
     private String communityId;
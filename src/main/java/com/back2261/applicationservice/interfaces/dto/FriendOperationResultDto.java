@@ -0,0 +1,20 @@
+package com.back2261.applicationservice.interfaces.dto;
+
+import com.back2261.applicationservice.interfaces.request.FriendOperationRequest;
+import io.github.GameBuddyDevs.backendlibrary.base.BaseModel;
+import io.github.GameBuddyDevs.backendlibrary.base.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FriendOperationResultDto extends BaseModel {
+
+    private String userId;
+    private FriendOperationRequest.Action action;
+    private Status status;
+}
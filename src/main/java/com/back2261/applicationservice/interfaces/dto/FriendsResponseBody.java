@@ -14,4 +14,5 @@ import lombok.Setter;
 public class FriendsResponseBody extends BaseModel {
 
     private List<GamerDto> friends;
+    private String nextCursor;
 }
@@ -1,6 +1,7 @@
 package com.back2261.applicationservice.interfaces.dto;
 
 import com.back2261.applicationservice.infrastructure.entity.Achievements;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.github.GameBuddyDevs.backendlibrary.base.BaseModel;
 import java.util.List;
 import lombok.Getter;
@@ -16,9 +17,22 @@ public class UserInfoResponseBody extends BaseModel {
     private String avatar;
     private String gender;
     private Integer coin;
+
+    // Sections left out by the fields parameter are null and not serialized.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<GamesDto> games;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<KeywordsDto> keywords;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<Achievements> achievements;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<CommunityDto> joinedCommunities;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<GamerDto> friends;
+
+    private List<String> incompleteSections;
 }
@@ -0,0 +1,16 @@
+package com.back2261.applicationservice.interfaces.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkFriendRequest {
+    @NotEmpty(message = "Operations cannot be empty")
+    @Size(max = 100, message = "At most 100 operations are allowed")
+    private List<@Valid FriendOperationRequest> operations;
+}
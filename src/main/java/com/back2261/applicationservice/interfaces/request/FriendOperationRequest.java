@@ -0,0 +1,19 @@
+package com.back2261.applicationservice.interfaces.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FriendOperationRequest extends FriendRequest {
+    @NotNull(message = "Action cannot be empty")
+    private Action action;
+
+    public enum Action {
+        ACCEPT,
+        REJECT,
+        BLOCK,
+        UNBLOCK
+    }
+}
@@ -0,0 +1,6 @@
+package com.back2261.applicationservice.interfaces.response;
+
+import com.back2261.applicationservice.interfaces.dto.BuddySuggestionsResponseBody;
+import io.github.GameBuddyDevs.backendlibrary.base.BaseResponse;
+
+public class BuddySuggestionsResponse extends BaseResponse<BuddySuggestionsResponseBody> {}
@@ -4,8 +4,14 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.back2261.applicationservice.config.PrincipalCache;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.domain.model.UserInfoSection;
+import com.back2261.applicationservice.domain.service.CatalogSnapshot;
 import com.back2261.applicationservice.domain.service.DefaultApplicationService;
 import com.back2261.applicationservice.interfaces.dto.*;
+import com.back2261.applicationservice.interfaces.request.BulkFriendRequest;
+import com.back2261.applicationservice.interfaces.request.FriendOperationRequest;
 import com.back2261.applicationservice.interfaces.request.FriendRequest;
 import com.back2261.applicationservice.interfaces.response.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,8 +19,14 @@ import io.github.GameBuddyDevs.backendlibrary.base.BaseBody;
 import io.github.GameBuddyDevs.backendlibrary.interfaces.DefaultMessageBody;
 import io.github.GameBuddyDevs.backendlibrary.interfaces.DefaultMessageResponse;
 import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -22,13 +34,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 @WebMvcTest(
         value = ApplicationController.class,
         excludeAutoConfiguration = {SecurityAutoConfiguration.class})
+@Import({SerializedResponseCache.class, SimpleMeterRegistry.class})
 class ApplicationControllerTest {
 
     @Autowired
@@ -41,12 +55,16 @@ class ApplicationControllerTest {
     private JwtService jwtService;
 
     @MockBean
-    private UserDetailsService userDetailsService;
+    private PrincipalCache principalCache;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private String token;
+    private GamerPrincipal principal;
     private FriendsResponse friendsResponse;
     private FriendRequest friendRequest;
     private DefaultMessageResponse defaultMessageResponse;
@@ -54,6 +72,10 @@ class ApplicationControllerTest {
     @BeforeEach
     void setUp() {
         token = "3745290384765934782659238q475";
+        principal = new GamerPrincipal("test", "test@test.com", false);
+        Mockito.when(jwtService.extractUsername(token)).thenReturn(principal.email());
+        Mockito.when(jwtService.validateToken(token, principal)).thenReturn(true);
+        Mockito.when(principalCache.get(principal.email())).thenReturn(principal);
         friendsResponse = new FriendsResponse();
         FriendsResponseBody friendsResponseBody = new FriendsResponseBody();
         List<GamerDto> friends = new ArrayList<>();
@@ -68,6 +90,11 @@ class ApplicationControllerTest {
         defaultMessageResponse.setBody(new BaseBody<>(defaultMessageBody));
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void testGetUserInfo_whenRequested_shouldReturnUsersInfo() throws Exception {
         UserInfoResponse userInfoResponse = new UserInfoResponse();
@@ -81,7 +108,8 @@ class ApplicationControllerTest {
         body.setUsername("test");
         userInfoResponse.setBody(new BaseBody<>(body));
 
-        Mockito.when(defaultApplicationService.getUserInfo(Mockito.anyString())).thenReturn(userInfoResponse);
+        Mockito.when(defaultApplicationService.getUserInfo(Mockito.anyString(), Mockito.eq(UserInfoSection.all())))
+                .thenReturn(userInfoResponse);
 
         var request = MockMvcRequestBuilders.get("/application/get/user/info/test")
                 .contentType("application/json")
@@ -98,6 +126,41 @@ class ApplicationControllerTest {
         assertEquals("test", responseObj.getBody().getData().getUsername());
     }
 
+    @Test
+    void testGetUserInfo_whenFieldsProvided_shouldLoadOnlyRequestedSections() throws Exception {
+        UserInfoResponse userInfoResponse = new UserInfoResponse();
+        UserInfoResponseBody body = new UserInfoResponseBody();
+        body.setUsername("test");
+        body.setFriends(List.of());
+        userInfoResponse.setBody(new BaseBody<>(body));
+
+        Mockito.when(defaultApplicationService.getUserInfo(
+                        "test", EnumSet.of(UserInfoSection.FRIENDS, UserInfoSection.GAMES)))
+                .thenReturn(userInfoResponse);
+
+        var request = MockMvcRequestBuilders.get("/application/get/user/info/test")
+                .param("fields", "username,avatar,friends,games")
+                .header("Authorization", token);
+        var response = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        String responseJson = response.getResponse().getContentAsString();
+
+        assertTrue(responseJson.contains("\"friends\":[]"));
+        assertFalse(responseJson.contains("\"keywords\""));
+    }
+
+    @Test
+    void testGetUserInfo_whenUnknownFieldProvided_shouldReturnBadRequest() throws Exception {
+        var request = MockMvcRequestBuilders.get("/application/get/user/info/test")
+                .param("fields", "friends,password")
+                .header("Authorization", token);
+        mockMvc.perform(request).andDo(print()).andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(defaultApplicationService);
+    }
+
     @Test
     void testGetKeywords_whenRequested_shouldReturnKeywords() throws Exception {
         KeywordsResponse keywordsResponse = new KeywordsResponse();
@@ -108,7 +171,8 @@ class ApplicationControllerTest {
         body.setKeywords(keywords);
         keywordsResponse.setBody(new BaseBody<>(body));
 
-        Mockito.when(defaultApplicationService.getKeywords()).thenReturn(keywordsResponse);
+        Mockito.when(defaultApplicationService.getKeywords())
+                .thenReturn(new CatalogSnapshot<>(1, "\"test\"", keywordsResponse));
 
         var request = MockMvcRequestBuilders.get("/application/get/keywords").contentType("application/json");
         var response = mockMvc.perform(request)
@@ -119,9 +183,55 @@ class ApplicationControllerTest {
 
         KeywordsResponse responseObj = objectMapper.readValue(responseJson, KeywordsResponse.class);
         assertEquals(200, response.getResponse().getStatus());
+        assertEquals("\"test\"", response.getResponse().getHeader("ETag"));
         assertEquals(2, responseObj.getBody().getData().getKeywords().size());
     }
 
+    @Test
+    void testGetKeywords_whenETagMatches_shouldReturnNotModified() throws Exception {
+        Mockito.when(defaultApplicationService.getKeywords())
+                .thenReturn(new CatalogSnapshot<>(1, "\"test\"", new KeywordsResponse()));
+
+        var request = MockMvcRequestBuilders.get("/application/get/keywords")
+                .contentType("application/json")
+                .header("If-None-Match", "\"test\"");
+        var response = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertEquals(304, response.getResponse().getStatus());
+        assertEquals("\"test\"", response.getResponse().getHeader("ETag"));
+        assertEquals("", response.getResponse().getContentAsString());
+    }
+
+    @Test
+    void testGetKeywords_whenGzipAccepted_shouldReturnGzipETag() throws Exception {
+        Mockito.when(defaultApplicationService.getKeywords())
+                .thenReturn(new CatalogSnapshot<>(1, "\"test\"", new KeywordsResponse()));
+
+        var request = MockMvcRequestBuilders.get("/application/get/keywords").header("Accept-Encoding", "gzip");
+        var response = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+
+        assertEquals("gzip", response.getResponse().getHeader("Content-Encoding"));
+        assertEquals("\"test-gzip\"", response.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    void testGetKeywords_whenGzipETagMatches_shouldReturnNotModified() throws Exception {
+        Mockito.when(defaultApplicationService.getKeywords())
+                .thenReturn(new CatalogSnapshot<>(1, "\"test\"", new KeywordsResponse()));
+
+        var request = MockMvcRequestBuilders.get("/application/get/keywords")
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "\"test-gzip\"");
+        var response =
+                mockMvc.perform(request).andExpect(status().isNotModified()).andReturn();
+
+        assertEquals("\"test-gzip\"", response.getResponse().getHeader("ETag"));
+        assertEquals("", response.getResponse().getContentAsString());
+    }
+
     @Test
     void testGetGames_whenRequested_shouldReturnGames() throws Exception {
         GamesResponse gamesResponse = new GamesResponse();
@@ -153,6 +263,55 @@ class ApplicationControllerTest {
         assertEquals(2, responseObj.getBody().getData().getGames().size());
     }
 
+    @Test
+    void testGetGames_whenGzipAccepted_shouldReturnCachedGzippedBytes() throws Exception {
+        GamesResponse gamesResponse = new GamesResponse();
+        GamesResponseBody body = new GamesResponseBody();
+        GamesDto game = new GamesDto();
+        game.setGameId("test");
+        body.setGames(List.of(game));
+        gamesResponse.setBody(new BaseBody<>(body));
+
+        Mockito.when(defaultApplicationService.getGames()).thenReturn(gamesResponse);
+
+        var request = MockMvcRequestBuilders.get("/application/get/games").header("Accept-Encoding", "gzip, br");
+        var first = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        var second = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        var plain = mockMvc.perform(MockMvcRequestBuilders.get("/application/get/games"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals("gzip", first.getResponse().getHeader("Content-Encoding"));
+        assertEquals("application/json", first.getResponse().getContentType());
+        assertArrayEquals(
+                first.getResponse().getContentAsByteArray(),
+                second.getResponse().getContentAsByteArray());
+        byte[] unzipped;
+        try (GZIPInputStream gzip =
+                new GZIPInputStream(new ByteArrayInputStream(first.getResponse().getContentAsByteArray()))) {
+            unzipped = gzip.readAllBytes();
+        }
+        assertArrayEquals(plain.getResponse().getContentAsByteArray(), unzipped);
+        assertNull(plain.getResponse().getHeader("Content-Encoding"));
+        GamesResponse responseObj = objectMapper.readValue(unzipped, GamesResponse.class);
+        assertEquals("test", responseObj.getBody().getData().getGames().get(0).getGameId());
+    }
+
+    @Test
+    void testGetGames_whenRequested_shouldRecordQueryMetricsForEndpoint() throws Exception {
+        Mockito.when(defaultApplicationService.getGames()).thenReturn(new GamesResponse());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/application/get/games")).andExpect(status().isOk());
+
+        var statements = meterRegistry
+                .get("hibernate.request.statements")
+                .tag("uri", "/application/get/games")
+                .tag("method", "GET")
+                .summary();
+        assertTrue(statements.count() >= 1);
+        assertEquals(0, statements.max());
+    }
+
     @Test
     void testGetPopularGames_whenRequested_shouldReturnPopularGames() throws Exception {
         GamesResponse gamesResponse = new GamesResponse();
@@ -185,6 +344,32 @@ class ApplicationControllerTest {
         assertEquals(2, responseObj.getBody().getData().getGames().size());
     }
 
+    @Test
+    void testSearchGames_whenQueryProvided_shouldReturnMatchingGames() throws Exception {
+        GamesResponse gamesResponse = new GamesResponse();
+        GamesResponseBody body = new GamesResponseBody();
+        GamesDto game = new GamesDto();
+        game.setGameId("test");
+        game.setGameName("test");
+        body.setGames(List.of(game));
+        gamesResponse.setBody(new BaseBody<>(body));
+
+        Mockito.when(defaultApplicationService.searchGames("te", 20)).thenReturn(gamesResponse);
+
+        var request = MockMvcRequestBuilders.get("/application/search/games")
+                .param("query", "te")
+                .contentType("application/json");
+        var response = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        String responseJson = response.getResponse().getContentAsString();
+
+        GamesResponse responseObj = objectMapper.readValue(responseJson, GamesResponse.class);
+        assertEquals(200, response.getResponse().getStatus());
+        assertEquals("test", responseObj.getBody().getData().getGames().get(0).getGameId());
+    }
+
     @Test
     void testGetAvatars_whenValidTokenProvided_shouldReturnFreeAvatarsAndOwnedAvatars() throws Exception {
         AvatarsResponse avatarsResponse = new AvatarsResponse();
@@ -198,7 +383,7 @@ class ApplicationControllerTest {
         body.setAvatars(avatars);
         avatarsResponse.setBody(new BaseBody<>(body));
 
-        Mockito.when(defaultApplicationService.getAvatars(token)).thenReturn(avatarsResponse);
+        Mockito.when(defaultApplicationService.getAvatars(principal)).thenReturn(avatarsResponse);
 
         var request = MockMvcRequestBuilders.get("/application/get/avatars")
                 .contentType("application/json")
@@ -224,7 +409,7 @@ class ApplicationControllerTest {
         body.setAchievementsList(achievements);
         achievementResponse.setBody(new BaseBody<>(body));
 
-        Mockito.when(defaultApplicationService.getAchievements(token)).thenReturn(achievementResponse);
+        Mockito.when(defaultApplicationService.getAchievements(principal)).thenReturn(achievementResponse);
 
         var request = MockMvcRequestBuilders.get("/application/get/achievements")
                 .contentType("application/json")
@@ -242,7 +427,7 @@ class ApplicationControllerTest {
 
     @Test
     void testCollectAchievement_whenValidIdProvided_shouldReturnSuccessMessage() throws Exception {
-        Mockito.when(defaultApplicationService.collectAchievement(token, "test"))
+        Mockito.when(defaultApplicationService.collectAchievement(principal, "test"))
                 .thenReturn(defaultMessageResponse);
 
         var request = MockMvcRequestBuilders.post("/application/collect/achievement/test")
@@ -285,7 +470,7 @@ class ApplicationControllerTest {
 
     @Test
     void testBuyItem_whenValidIdAndTokenProvided_shouldReturnSuccessMessage() throws Exception {
-        Mockito.when(defaultApplicationService.buyItem(token, "test")).thenReturn(defaultMessageResponse);
+        Mockito.when(defaultApplicationService.buyItem(principal, "test")).thenReturn(defaultMessageResponse);
 
         var request = MockMvcRequestBuilders.post("/application/buy/item/test")
                 .contentType("application/json")
@@ -300,7 +485,7 @@ class ApplicationControllerTest {
 
     @Test
     void testGetFriends_whenValidTokenProvided_shouldReturnUserFriends() throws Exception {
-        Mockito.when(defaultApplicationService.getFriends(token)).thenReturn(friendsResponse);
+        Mockito.when(defaultApplicationService.getFriends(principal, null, 50)).thenReturn(friendsResponse);
 
         var request = MockMvcRequestBuilders.get("/application/get/friends")
                 .contentType("application/json")
@@ -316,9 +501,51 @@ class ApplicationControllerTest {
         assertEquals(2, responseObj.getBody().getData().getFriends().size());
     }
 
+    @Test
+    void testGetMutualFriends_whenValidTokenProvided_shouldReturnMutualFriends() throws Exception {
+        Mockito.when(defaultApplicationService.getMutualFriends("test2", principal))
+                .thenReturn(friendsResponse);
+
+        var request = MockMvcRequestBuilders.get("/application/get/mutual/friends/test2")
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token);
+        var response = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        String responseJson = response.getResponse().getContentAsString();
+
+        FriendsResponse responseObj = objectMapper.readValue(responseJson, FriendsResponse.class);
+        assertEquals(200, response.getResponse().getStatus());
+        assertEquals(2, responseObj.getBody().getData().getFriends().size());
+    }
+
+    @Test
+    void testGetBuddySuggestions_whenValidTokenProvided_shouldReturnSuggestions() throws Exception {
+        BuddySuggestionsResponse suggestionsResponse = new BuddySuggestionsResponse();
+        suggestionsResponse.setBody(new BaseBody<>(new BuddySuggestionsResponseBody(
+                List.of(new BuddySuggestionDto("test2", "test2", 20, "TR", "avatar", 3)))));
+        Mockito.when(defaultApplicationService.getBuddySuggestions(principal, 20))
+                .thenReturn(suggestionsResponse);
+
+        var request = MockMvcRequestBuilders.get("/application/get/buddy/suggestions")
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token);
+        var response = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        String responseJson = response.getResponse().getContentAsString();
+
+        BuddySuggestionsResponse responseObj = objectMapper.readValue(responseJson, BuddySuggestionsResponse.class);
+        assertEquals(200, response.getResponse().getStatus());
+        assertEquals(3, responseObj.getBody().getData().getSuggestions().get(0).getScore());
+    }
+
     @Test
     void testGetWaitingFriends_whenValidTokenProvided_shouldReturnUserFriendRequests() throws Exception {
-        Mockito.when(defaultApplicationService.getWaitingFriends(token)).thenReturn(friendsResponse);
+        Mockito.when(defaultApplicationService.getWaitingFriends(principal, null, 50))
+                .thenReturn(friendsResponse);
 
         var request = MockMvcRequestBuilders.get("/application/get/requests/friends")
                 .contentType("application/json")
@@ -336,7 +563,8 @@ class ApplicationControllerTest {
 
     @Test
     void testGetBlockedFriends_whenValidTokenProvided_shouldReturnUserBlockedFriends() throws Exception {
-        Mockito.when(defaultApplicationService.getBlockedFriends(token)).thenReturn(friendsResponse);
+        Mockito.when(defaultApplicationService.getBlockedFriends(principal, null, 50))
+                .thenReturn(friendsResponse);
 
         var request = MockMvcRequestBuilders.get("/application/get/blocked/friends")
                 .contentType("application/json")
@@ -352,9 +580,30 @@ class ApplicationControllerTest {
         assertEquals(2, responseObj.getBody().getData().getFriends().size());
     }
 
+    @Test
+    void testGetFriends_whenCursorAndSizeProvided_shouldPassThemToService() throws Exception {
+        friendsResponse.getBody().getData().setNextCursor("next");
+        Mockito.when(defaultApplicationService.getFriends(principal, "cursor", 10))
+                .thenReturn(friendsResponse);
+
+        var request = MockMvcRequestBuilders.get("/application/get/friends")
+                .param("cursor", "cursor")
+                .param("size", "10")
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token);
+        var response = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+        String responseJson = response.getResponse().getContentAsString();
+
+        FriendsResponse responseObj = objectMapper.readValue(responseJson, FriendsResponse.class);
+        assertEquals("next", responseObj.getBody().getData().getNextCursor());
+    }
+
     @Test
     void testAddFriend_whenValidTokenProvided_shouldReturnSuccessMessage() throws Exception {
-        Mockito.when(defaultApplicationService.acceptFriend(friendRequest, token))
+        Mockito.when(defaultApplicationService.acceptFriend(friendRequest, principal))
                 .thenReturn(defaultMessageResponse);
 
         var request = MockMvcRequestBuilders.post("/application/accept/friend")
@@ -371,7 +620,7 @@ class ApplicationControllerTest {
 
     @Test
     void testRejectFriend_whenValidTokenProvided_shouldReturnSuccessMessage() throws Exception {
-        Mockito.when(defaultApplicationService.rejectFriend(friendRequest, token))
+        Mockito.when(defaultApplicationService.rejectFriend(friendRequest, principal))
                 .thenReturn(defaultMessageResponse);
 
         var request = MockMvcRequestBuilders.post("/application/reject/friend")
@@ -388,7 +637,7 @@ class ApplicationControllerTest {
 
     @Test
     void testRemoveFriend_whenValidTokenProvided_shouldReturnSuccessMessage() throws Exception {
-        Mockito.when(defaultApplicationService.removeFriend(friendRequest, token))
+        Mockito.when(defaultApplicationService.removeFriend(friendRequest, principal))
                 .thenReturn(defaultMessageResponse);
 
         var request = MockMvcRequestBuilders.post("/application/remove/friend")
@@ -405,7 +654,8 @@ class ApplicationControllerTest {
 
     @Test
     void testBlockFriend_whenValidTokenProvided_shouldReturnSuccessMessage() throws Exception {
-        Mockito.when(defaultApplicationService.blockUser(friendRequest, token)).thenReturn(defaultMessageResponse);
+        Mockito.when(defaultApplicationService.blockUser(friendRequest, principal))
+                .thenReturn(defaultMessageResponse);
 
         var request = MockMvcRequestBuilders.post("/application/block/friend")
                 .contentType("application/json")
@@ -421,7 +671,7 @@ class ApplicationControllerTest {
 
     @Test
     void testUnblockFriend_whenValidTokenProvided_shouldReturnSuccessMessage() throws Exception {
-        Mockito.when(defaultApplicationService.unblockUser(friendRequest, token))
+        Mockito.when(defaultApplicationService.unblockUser(friendRequest, principal))
                 .thenReturn(defaultMessageResponse);
 
         var request = MockMvcRequestBuilders.post("/application/unblock/friend")
@@ -438,7 +688,7 @@ class ApplicationControllerTest {
 
     @Test
     void testSendFriendRequest_whenValidTokenProvided_shouldReturnSuccessMessage() throws Exception {
-        Mockito.when(defaultApplicationService.sendFriendRequest(friendRequest, token))
+        Mockito.when(defaultApplicationService.sendFriendRequest(friendRequest, principal))
                 .thenReturn(defaultMessageResponse);
 
         var request = MockMvcRequestBuilders.post("/application/send/friend")
@@ -452,4 +702,48 @@ class ApplicationControllerTest {
 
         assertEquals(200, response.getResponse().getStatus());
     }
+
+    @Test
+    void testApplyFriendOperations_whenValidTokenProvided_shouldReturnPerItemResults() throws Exception {
+        FriendOperationRequest operation = new FriendOperationRequest();
+        operation.setUserId("test2");
+        operation.setAction(FriendOperationRequest.Action.ACCEPT);
+        BulkFriendRequest bulkFriendRequest = new BulkFriendRequest();
+        bulkFriendRequest.setOperations(List.of(operation));
+        BulkFriendResponse bulkFriendResponse = new BulkFriendResponse();
+        bulkFriendResponse.setBody(new BaseBody<>(new BulkFriendResponseBody(
+                List.of(new FriendOperationResultDto("test2", FriendOperationRequest.Action.ACCEPT, null)))));
+        Mockito.when(defaultApplicationService.applyFriendOperations(Mockito.any(), Mockito.eq(principal)))
+                .thenReturn(bulkFriendResponse);
+
+        var request = MockMvcRequestBuilders.post("/application/bulk/friends")
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(bulkFriendRequest));
+        var response = mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String json = response.getResponse().getContentAsString();
+        BulkFriendResponse responseObj = objectMapper.readValue(json, BulkFriendResponse.class);
+        assertEquals(
+                "test2", responseObj.getBody().getData().getResults().get(0).getUserId());
+    }
+
+    @Test
+    void testApplyFriendOperations_whenOperationHasNoAction_shouldReturnBadRequest() throws Exception {
+        FriendOperationRequest operation = new FriendOperationRequest();
+        operation.setUserId("test2");
+        BulkFriendRequest bulkFriendRequest = new BulkFriendRequest();
+        bulkFriendRequest.setOperations(List.of(operation));
+
+        var request = MockMvcRequestBuilders.post("/application/bulk/friends")
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token)
+                .content(objectMapper.writeValueAsString(bulkFriendRequest));
+        mockMvc.perform(request).andDo(print()).andExpect(status().isBadRequest());
+
+        Mockito.verify(defaultApplicationService, Mockito.never()).applyFriendOperations(Mockito.any(), Mockito.any());
+    }
 }
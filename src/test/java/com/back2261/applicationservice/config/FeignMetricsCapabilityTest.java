@@ -0,0 +1,75 @@
+package com.back2261.applicationservice.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.domain.service.NotificationService;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FeignMetricsCapabilityTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FeignMetricsCapability capability;
+    private Request request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        capability = new FeignMetricsCapability(meterRegistry);
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(
+                new Target.HardCodedTarget<>(NotificationService.class, "notification-service", "http://localhost"));
+        request = Request.create(
+                Request.HttpMethod.POST,
+                "http://localhost/notif/token",
+                Map.of(),
+                new byte[0],
+                StandardCharsets.UTF_8,
+                template);
+    }
+
+    @Test
+    void testEnrich_whenCallSucceeds_RecordTimerWithStatus() throws IOException {
+        Client delegate = (call, options) ->
+                Response.builder().status(200).request(call).headers(Map.of()).build();
+        Client client = capability.enrich(delegate);
+
+        client.execute(request, new Request.Options());
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(FeignMetricsCapability.METRIC_NAME)
+                        .tag("client", "notification-service")
+                        .tag("status", "200")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void testEnrich_whenCallFails_RecordTimerWithIoError() {
+        Client delegate = (call, options) -> {
+            throw new IOException("connection refused");
+        };
+        Client client = capability.enrich(delegate);
+
+        assertThrows(IOException.class, () -> client.execute(request, new Request.Options()));
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(FeignMetricsCapability.METRIC_NAME)
+                        .tag("status", "IO_ERROR")
+                        .timer()
+                        .count());
+    }
+}
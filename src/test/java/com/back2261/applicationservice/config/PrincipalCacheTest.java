@@ -0,0 +1,87 @@
+package com.back2261.applicationservice.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.domain.event.GamerChangedEvent;
+import com.back2261.applicationservice.domain.event.GamerRemovedEvent;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import io.github.GameBuddyDevs.backendlibrary.exception.BusinessException;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PrincipalCacheTest {
+
+    @Mock
+    private GamerRepository gamerRepository;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(gamerRepository, 100, Duration.ofMinutes(1));
+        Mockito.when(gamerRepository.findPrincipalByEmail("test@test.com"))
+                .thenReturn(Optional.of(new GamerPrincipal("test", "test@test.com", false)))
+                .thenReturn(Optional.of(new GamerPrincipal("test", "test@test.com", true)));
+    }
+
+    @Test
+    void testGet_whenCalledRepeatedly_LoadPrincipalOnce() {
+        GamerPrincipal first = principalCache.get("test@test.com");
+        GamerPrincipal second = principalCache.get("test@test.com");
+
+        assertSame(first, second);
+        assertTrue(first.isAccountNonLocked());
+        Mockito.verify(gamerRepository, Mockito.times(1)).findPrincipalByEmail("test@test.com");
+        Mockito.verify(gamerRepository, Mockito.never()).findByEmail(Mockito.anyString());
+    }
+
+    @Test
+    void testGet_whenGamerNotFound_ThrowBusinessException() {
+        Mockito.when(gamerRepository.findPrincipalByEmail("missing@test.com")).thenReturn(Optional.empty());
+
+        BusinessException exception =
+                assertThrows(BusinessException.class, () -> principalCache.get("missing@test.com"));
+        assertEquals(103, exception.getTransactionCode().getId());
+    }
+
+    @Test
+    void testOnGamerChanged_whenBlockedFlagChanged_ReloadPrincipal() {
+        principalCache.get("test@test.com");
+
+        principalCache.onGamerChanged(new GamerChangedEvent("test", "test@test.com", true));
+
+        assertFalse(principalCache.get("test@test.com").isAccountNonLocked());
+        Mockito.verify(gamerRepository, Mockito.times(2)).findPrincipalByEmail("test@test.com");
+    }
+
+    @Test
+    void testOnGamerChanged_whenBlockedFlagUnchanged_KeepCachedPrincipal() {
+        principalCache.get("test@test.com");
+
+        principalCache.onGamerChanged(new GamerChangedEvent("test", "test@test.com", false));
+
+        assertTrue(principalCache.get("test@test.com").isAccountNonLocked());
+        Mockito.verify(gamerRepository, Mockito.times(1)).findPrincipalByEmail("test@test.com");
+    }
+
+    @Test
+    void testOnGamerRemoved_whenPrincipalCached_EvictPrincipal() {
+        principalCache.get("test@test.com");
+
+        principalCache.onGamerRemoved(new GamerRemovedEvent("test", "test@test.com"));
+        principalCache.get("test@test.com");
+
+        Mockito.verify(gamerRepository, Mockito.times(2)).findPrincipalByEmail("test@test.com");
+    }
+}
@@ -0,0 +1,63 @@
+package com.back2261.applicationservice.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.domain.service.ApplicationService;
+import com.back2261.applicationservice.interfaces.response.GamesResponse;
+import io.github.GameBuddyDevs.backendlibrary.enums.TransactionCode;
+import io.github.GameBuddyDevs.backendlibrary.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class ServiceTimingAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationService target;
+    private ApplicationService applicationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = Mockito.mock(ApplicationService.class);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new ServiceTimingAspect(meterRegistry));
+        applicationService = proxyFactory.getProxy();
+    }
+
+    @Test
+    void testTime_whenServiceMethodCalled_RecordTimerPerMethod() {
+        GamesResponse gamesResponse = new GamesResponse();
+        Mockito.when(target.getGames()).thenReturn(gamesResponse);
+
+        assertSame(gamesResponse, applicationService.getGames());
+        applicationService.getGames();
+
+        assertEquals(
+                2,
+                meterRegistry
+                        .get(ServiceTimingAspect.METRIC_NAME)
+                        .tag("method", "getGames")
+                        .tag("exception", "none")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void testTime_whenServiceMethodThrows_TagTimerWithException() {
+        Mockito.when(target.getGame("missing")).thenThrow(new BusinessException(TransactionCode.DB_ERROR));
+
+        assertThrows(BusinessException.class, () -> applicationService.getGame("missing"));
+
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(ServiceTimingAspect.METRIC_NAME)
+                        .tag("method", "getGame")
+                        .tag("exception", "BusinessException")
+                        .timer()
+                        .count());
+    }
+}
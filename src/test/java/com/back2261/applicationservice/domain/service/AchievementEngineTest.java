@@ -0,0 +1,149 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.domain.event.AchievementCollectedEvent;
+import com.back2261.applicationservice.domain.event.FriendAddedEvent;
+import com.back2261.applicationservice.domain.event.ItemBoughtEvent;
+import com.back2261.applicationservice.infrastructure.entity.Achievements;
+import com.back2261.applicationservice.infrastructure.entity.Gamer;
+import com.back2261.applicationservice.infrastructure.repository.AchievementsRepository;
+import com.back2261.applicationservice.infrastructure.repository.EarnedAchievementRepository;
+import com.back2261.applicationservice.infrastructure.repository.FriendRepository;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AchievementEngineTest {
+
+    @Mock
+    private GamerRepository gamerRepository;
+
+    @Mock
+    private FriendRepository friendRepository;
+
+    @Mock
+    private AchievementsRepository achievementsRepository;
+
+    @Mock
+    private EarnedAchievementRepository earnedAchievementRepository;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AchievementEngine achievementEngine;
+    private Gamer gamer;
+
+    @BeforeEach
+    void setUp() {
+        achievementEngine = new AchievementEngine(
+                gamerRepository,
+                friendRepository,
+                achievementsRepository,
+                earnedAchievementRepository,
+                notificationOutbox,
+                transactionManager);
+        gamer = new Gamer();
+        gamer.setUserId("test");
+        gamer.setFcmToken("token");
+        gamer.setGamerEarnedAchievements(new HashSet<>());
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(earnedAchievementRepository.insertIfNotEarned(Mockito.eq("test"), Mockito.any()))
+                .thenReturn(1);
+    }
+
+    @Test
+    void testEvaluate_whenThirdAvatarBought_AwardAchievementAndSendNotification() {
+        Achievements achievement = getAchievement(AchievementEngine.RICH_IN_THE_HOOD);
+        Mockito.when(gamerRepository.countBoughtAvatars("test")).thenReturn(3L);
+        Mockito.when(achievementsRepository.findByAchievementName(AchievementEngine.RICH_IN_THE_HOOD))
+                .thenReturn(Optional.of(achievement));
+
+        achievementEngine.evaluate(new ItemBoughtEvent("test", UUID.randomUUID()));
+
+        Mockito.verify(earnedAchievementRepository).insertIfNotEarned("test", achievement.getId());
+        assertTrue(gamer.getGamerEarnedAchievements().isEmpty());
+        Mockito.verify(notificationOutbox).enqueue(Mockito.any(SendNotificationTokenRequest.class));
+    }
+
+    @Test
+    void testEvaluate_whenEarnedConcurrently_DoNotSendNotification() {
+        Achievements achievement = getAchievement(AchievementEngine.RICH_IN_THE_HOOD);
+        Mockito.when(gamerRepository.countBoughtAvatars("test")).thenReturn(3L);
+        Mockito.when(achievementsRepository.findByAchievementName(AchievementEngine.RICH_IN_THE_HOOD))
+                .thenReturn(Optional.of(achievement));
+        Mockito.when(earnedAchievementRepository.insertIfNotEarned("test", achievement.getId()))
+                .thenReturn(0);
+
+        achievementEngine.evaluate(new ItemBoughtEvent("test", UUID.randomUUID()));
+
+        Mockito.verifyNoInteractions(notificationOutbox);
+    }
+
+    @Test
+    void testEvaluate_whenThresholdNotReached_DoNotAward() {
+        Mockito.when(gamerRepository.countBoughtAvatars("test")).thenReturn(2L);
+
+        achievementEngine.evaluate(new ItemBoughtEvent("test", UUID.randomUUID()));
+
+        assertTrue(gamer.getGamerEarnedAchievements().isEmpty());
+        Mockito.verifyNoInteractions(achievementsRepository, earnedAchievementRepository, notificationOutbox);
+    }
+
+    @Test
+    void testEvaluate_whenAchievementAlreadyEarned_SkipCounter() {
+        gamer.getGamerEarnedAchievements().add(getAchievement(AchievementEngine.FRIENDLY_PERSON));
+
+        achievementEngine.evaluate(new FriendAddedEvent("test", "test2"));
+
+        Mockito.verify(friendRepository, Mockito.never()).countByUserId(Mockito.anyString());
+        Mockito.verifyNoInteractions(achievementsRepository, notificationOutbox);
+    }
+
+    @Test
+    void testEvaluate_whenFirstFriendAdded_AwardAchievement() {
+        Achievements achievement = getAchievement(AchievementEngine.FRIENDLY_PERSON);
+        Mockito.when(friendRepository.countByUserId("test")).thenReturn(1L);
+        Mockito.when(achievementsRepository.findByAchievementName(AchievementEngine.FRIENDLY_PERSON))
+                .thenReturn(Optional.of(achievement));
+
+        achievementEngine.evaluate(new FriendAddedEvent("test", "test2"));
+
+        Mockito.verify(earnedAchievementRepository).insertIfNotEarned("test", achievement.getId());
+    }
+
+    @Test
+    void testEvaluate_whenAchievementNotDefined_DoNotFail() {
+        Mockito.when(friendRepository.countByUserId("test")).thenReturn(1L);
+        Mockito.when(achievementsRepository.findByAchievementName(Mockito.anyString()))
+                .thenReturn(Optional.empty());
+
+        assertDoesNotThrow(() -> achievementEngine.evaluate(new FriendAddedEvent("test", "test2")));
+        Mockito.verifyNoInteractions(notificationOutbox);
+    }
+
+    @Test
+    void testEvaluate_whenEventHasNoRules_DoNotTouchRepositories() {
+        achievementEngine.evaluate(new AchievementCollectedEvent("test", UUID.randomUUID()));
+
+        Mockito.verifyNoInteractions(gamerRepository, transactionManager);
+    }
+
+    private Achievements getAchievement(String name) {
+        return new Achievements(UUID.randomUUID(), name, 100, "description");
+    }
+}
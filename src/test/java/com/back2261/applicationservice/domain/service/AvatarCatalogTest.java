@@ -0,0 +1,92 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.infrastructure.entity.Avatars;
+import com.back2261.applicationservice.infrastructure.repository.AvatarsRepository;
+import com.back2261.applicationservice.interfaces.dto.SpecialAvatarsDto;
+import com.back2261.applicationservice.interfaces.response.MarketplaceResponse;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AvatarCatalogTest {
+
+    @InjectMocks
+    private AvatarCatalog avatarCatalog;
+
+    @Mock
+    private AvatarsRepository avatarsRepository;
+
+    private Avatars freeAvatar;
+    private Avatars specialAvatar;
+
+    @BeforeEach
+    void setUp() {
+        freeAvatar = new Avatars(UUID.fromString("71927b70-8a51-4844-a306-00313fec4f09"), "free", false, 0);
+        specialAvatar = new Avatars(UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1"), "special", true, 100);
+        Mockito.when(avatarsRepository.findAll()).thenReturn(List.of(freeAvatar, specialAvatar));
+    }
+
+    @Test
+    void testGetImage_whenCalledRepeatedly_LoadAvatarsOnce() {
+        assertEquals("free", avatarCatalog.getImage(freeAvatar.getId()));
+        assertEquals("special", avatarCatalog.getImage(specialAvatar.getId()));
+        assertNull(avatarCatalog.getImage(UUID.randomUUID()));
+        assertNull(avatarCatalog.getImage(null));
+
+        Mockito.verify(avatarsRepository, Mockito.times(1)).findAll();
+    }
+
+    @Test
+    void testGetAvatars_whenCalled_SplitFreeAndSpecialAvatars() {
+        assertEquals(List.of(freeAvatar), avatarCatalog.getFreeAvatars());
+        assertEquals(List.of(specialAvatar), avatarCatalog.getSpecialAvatars());
+    }
+
+    @Test
+    void testGetMarketplace_whenCalledRepeatedly_ReturnSameResponseUntilRefresh() {
+        MarketplaceResponse marketplace = avatarCatalog.getMarketplace();
+
+        assertSame(marketplace, avatarCatalog.getMarketplace());
+        SpecialAvatarsDto item =
+                marketplace.getBody().getData().getSpecialAvatars().get(0);
+        assertEquals(specialAvatar.getId().toString(), item.getId());
+        assertEquals("100", item.getPrice());
+        assertEquals("100", marketplace.getStatus().getCode());
+
+        avatarCatalog.refresh();
+
+        assertNotSame(marketplace, avatarCatalog.getMarketplace());
+    }
+
+    @Test
+    void testRefresh_whenAvatarsChanged_SwapSnapshot() {
+        assertTrue(avatarCatalog.findById(specialAvatar.getId()).isPresent());
+        Mockito.when(avatarsRepository.findAll()).thenReturn(List.of(freeAvatar));
+
+        avatarCatalog.refresh();
+
+        assertTrue(avatarCatalog.findById(specialAvatar.getId()).isEmpty());
+        assertEquals(0, avatarCatalog.getSpecialAvatars().size());
+    }
+
+    @Test
+    void testRefresh_whenReloadFails_KeepPreviousSnapshot() {
+        assertEquals(1, avatarCatalog.getFreeAvatars().size());
+        Mockito.when(avatarsRepository.findAll()).thenThrow(new IllegalStateException("db down"));
+
+        avatarCatalog.refresh();
+
+        assertEquals(1, avatarCatalog.getFreeAvatars().size());
+    }
+}
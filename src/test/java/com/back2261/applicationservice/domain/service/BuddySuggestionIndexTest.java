@@ -0,0 +1,78 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.domain.model.GamerFeature;
+import com.back2261.applicationservice.infrastructure.repository.GamerRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BuddySuggestionIndexTest {
+
+    @Mock
+    private GamerRepository gamerRepository;
+
+    private BuddySuggestionIndex buddySuggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        buddySuggestionIndex = new BuddySuggestionIndex(gamerRepository);
+        Mockito.when(gamerRepository.findKeywordFeatures())
+                .thenReturn(List.of(
+                        new GamerFeature("alice", "fps"),
+                        new GamerFeature("alice", "casual"),
+                        new GamerFeature("bob", "fps"),
+                        new GamerFeature("bob", "casual"),
+                        new GamerFeature("carol", "fps"),
+                        new GamerFeature("dave", "strategy")));
+        Mockito.when(gamerRepository.findGameFeatures())
+                .thenReturn(List.of(
+                        new GamerFeature("alice", "valorant"),
+                        new GamerFeature("carol", "valorant"),
+                        new GamerFeature("dave", "chess")));
+    }
+
+    @Test
+    void testSuggest_whenGamersShareFeatures_RankByWeightedOverlap() {
+        List<BuddySuggestionIndex.Suggestion> suggestions = buddySuggestionIndex.suggest("alice", List.of(), 10);
+
+        assertEquals(
+                List.of(
+                        new BuddySuggestionIndex.Suggestion(
+                                "carol", BuddySuggestionIndex.KEYWORD_WEIGHT + BuddySuggestionIndex.GAME_WEIGHT),
+                        new BuddySuggestionIndex.Suggestion("bob", 2 * BuddySuggestionIndex.KEYWORD_WEIGHT)),
+                suggestions);
+    }
+
+    @Test
+    void testSuggest_whenCandidateExcluded_SkipCandidate() {
+        List<BuddySuggestionIndex.Suggestion> suggestions =
+                buddySuggestionIndex.suggest("alice", List.of("carol", "unknown"), 10);
+
+        assertEquals(1, suggestions.size());
+        assertEquals("bob", suggestions.get(0).userId());
+    }
+
+    @Test
+    void testSuggest_whenLimitSmallerThanCandidates_ReturnBestOnly() {
+        List<BuddySuggestionIndex.Suggestion> suggestions = buddySuggestionIndex.suggest("alice", List.of(), 1);
+
+        assertEquals(1, suggestions.size());
+        assertEquals("carol", suggestions.get(0).userId());
+    }
+
+    @Test
+    void testSuggest_whenGamerUnknownOrSharesNothing_ReturnEmpty() {
+        assertTrue(buddySuggestionIndex.suggest("unknown", List.of(), 10).isEmpty());
+        assertTrue(buddySuggestionIndex.suggest("dave", List.of(), 10).isEmpty());
+    }
+}
@@ -2,23 +2,45 @@ package com.back2261.applicationservice.domain.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.back2261.applicationservice.config.GamerCollectionCache;
+import com.back2261.applicationservice.domain.event.AchievementCollectedEvent;
+import com.back2261.applicationservice.domain.event.FriendAddedEvent;
+import com.back2261.applicationservice.domain.event.FriendRemovedEvent;
+import com.back2261.applicationservice.domain.event.ItemBoughtEvent;
+import com.back2261.applicationservice.domain.event.UserBlockedEvent;
+import com.back2261.applicationservice.domain.event.UserUnblockedEvent;
+import com.back2261.applicationservice.domain.model.GamerPrincipal;
+import com.back2261.applicationservice.domain.model.UserInfoSection;
 import com.back2261.applicationservice.infrastructure.entity.*;
 import com.back2261.applicationservice.infrastructure.repository.*;
+import com.back2261.applicationservice.interfaces.dto.BuddySuggestionDto;
+import com.back2261.applicationservice.interfaces.dto.CommunityDto;
+import com.back2261.applicationservice.interfaces.dto.FriendOperationResultDto;
+import com.back2261.applicationservice.interfaces.dto.GamerDto;
+import com.back2261.applicationservice.interfaces.request.BulkFriendRequest;
+import com.back2261.applicationservice.interfaces.request.FriendOperationRequest;
 import com.back2261.applicationservice.interfaces.request.FriendRequest;
+import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
 import com.back2261.applicationservice.interfaces.response.*;
 import io.github.GameBuddyDevs.backendlibrary.exception.BusinessException;
 import io.github.GameBuddyDevs.backendlibrary.interfaces.DefaultMessageResponse;
-import io.github.GameBuddyDevs.backendlibrary.service.JwtService;
+import jakarta.persistence.EntityManagerFactory;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -28,7 +50,10 @@ class DefaultApplicationServiceTest {
     private DefaultApplicationService defaultApplicationService;
 
     @Mock
-    private KeywordsRepository keywordsRepository;
+    private KeywordCatalog keywordCatalog;
+
+    @Mock
+    private GamesCatalog gamesCatalog;
 
     @Mock
     private GamesRepository gamesRepository;
@@ -37,22 +62,57 @@ class DefaultApplicationServiceTest {
     private GamerRepository gamerRepository;
 
     @Mock
-    private AvatarsRepository avatarsRepository;
+    private BoughtAvatarRepository boughtAvatarRepository;
+
+    @Mock
+    private CollectedAchievementRepository collectedAchievementRepository;
+
+    @Mock
+    private BatchInsertRepository batchInsertRepository;
 
     @Mock
     private AchievementsRepository achievementsRepository;
 
     @Mock
-    private JwtService jwtService;
+    private FriendRepository friendRepository;
+
+    @Mock
+    private WaitingFriendRepository waitingFriendRepository;
+
+    @Mock
+    private BlockedFriendRepository blockedFriendRepository;
+
+    @Mock
+    private GamerCollectionCache gamerCollectionCache;
+
+    @Mock
+    private AvatarCatalog avatarCatalog;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private FriendGraph friendGraph;
+
+    @Spy
+    private SectionLoader sectionLoader = new SectionLoader(Mockito.mock(EntityManagerFactory.class), 2, 16, 1000, 10);
+
+    @Mock
+    private BuddySuggestionIndex buddySuggestionIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Mock
-    private NotificationService notificationService;
+    private PlatformTransactionManager transactionManager;
 
     private String token;
+    private GamerPrincipal principal;
 
     @BeforeEach
     void setUp() {
         token = "test";
+        principal = new GamerPrincipal("test", "test@test.com", false);
     }
 
     @Test
@@ -60,8 +120,8 @@ class DefaultApplicationServiceTest {
 
         Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.empty());
 
-        BusinessException exception =
-                assertThrows(BusinessException.class, () -> defaultApplicationService.getUserInfo(token));
+        BusinessException exception = assertThrows(
+                BusinessException.class, () -> defaultApplicationService.getUserInfo(token, UserInfoSection.all()));
         assertEquals(103, exception.getTransactionCode().getId());
     }
 
@@ -70,9 +130,8 @@ class DefaultApplicationServiceTest {
         Gamer gamer = getGamer();
 
         Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(new Avatars()));
 
-        UserInfoResponse result = defaultApplicationService.getUserInfo(token);
+        UserInfoResponse result = defaultApplicationService.getUserInfo(token, UserInfoSection.all());
         assertEquals("test", result.getBody().getData().getUsername());
         assertEquals("100", result.getStatus().getCode());
     }
@@ -82,49 +141,134 @@ class DefaultApplicationServiceTest {
         Gamer gamer = getGamer();
 
         Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(new Avatars()));
 
-        UserInfoResponse result = defaultApplicationService.getUserInfo(token);
+        UserInfoResponse result = defaultApplicationService.getUserInfo(token, UserInfoSection.all());
         assertEquals("test", result.getBody().getData().getUsername());
         assertEquals("100", result.getStatus().getCode());
     }
 
     @Test
-    void testGetKeywords_whenCalled_ReturnKeywords() {
-        List<Keywords> keywords = new ArrayList<>();
-        keywords.add(new Keywords());
-        keywords.add(new Keywords());
+    void testGetUserInfo_whenUserHasRelations_ReturnSectionsFromReadQueries() {
+        Gamer gamer = getGamer();
+        List<GamerDto> friends = new ArrayList<>();
+        friends.add(new GamerDto("test2", "test2", 20, "test", "test"));
+        List<CommunityDto> communities = new ArrayList<>();
+        communities.add(new CommunityDto("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d8", "test", "test", true));
+        Gamer withRelations = getGamer();
+        withRelations.getLikedgames().add(new Games());
+        withRelations.getGamerEarnedAchievements().add(getAchievement());
+
+        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findFriends(Mockito.anyString())).thenReturn(friends);
+        Mockito.when(gamerRepository.findJoinedCommunities(Mockito.anyString())).thenReturn(communities);
+        Mockito.when(gamerRepository.findWithLikedGames(Mockito.anyString())).thenReturn(Optional.of(withRelations));
+        Mockito.when(gamerRepository.findWithKeywords(Mockito.anyString())).thenReturn(Optional.of(withRelations));
+        Mockito.when(gamerRepository.findWithEarnedAchievements(Mockito.anyString()))
+                .thenReturn(Optional.of(withRelations));
+
+        UserInfoResponse result = defaultApplicationService.getUserInfo(token, UserInfoSection.all());
+        assertEquals(1, result.getBody().getData().getFriends().size());
+        assertEquals("test2", result.getBody().getData().getFriends().get(0).getUsername());
+        assertTrue(result.getBody().getData().getJoinedCommunities().get(0).getIsOwner());
+        assertEquals(1, result.getBody().getData().getGames().size());
+        assertEquals(1, result.getBody().getData().getAchievements().size());
+        assertEquals(0, result.getBody().getData().getKeywords().size());
+        assertTrue(result.getBody().getData().getIncompleteSections().isEmpty());
+    }
+
+    @Test
+    void testGetUserInfo_whenOnlySomeSectionsRequested_QueryAndReturnOnlyThoseSections() {
+        Gamer gamer = getGamer();
+
+        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findFriends(Mockito.anyString()))
+                .thenReturn(List.of(new GamerDto("test2", "test2", 20, "test", "test")));
+
+        UserInfoResponse result = defaultApplicationService.getUserInfo(token, EnumSet.of(UserInfoSection.FRIENDS));
+        assertEquals("test", result.getBody().getData().getUsername());
+        assertEquals(1, result.getBody().getData().getFriends().size());
+        assertNull(result.getBody().getData().getGames());
+        assertNull(result.getBody().getData().getKeywords());
+        assertNull(result.getBody().getData().getAchievements());
+        assertNull(result.getBody().getData().getJoinedCommunities());
+        Mockito.verify(gamerRepository, Mockito.never()).findWithLikedGames(Mockito.anyString());
+        Mockito.verify(gamerRepository, Mockito.never()).findWithKeywords(Mockito.anyString());
+        Mockito.verify(gamerRepository, Mockito.never()).findWithEarnedAchievements(Mockito.anyString());
+        Mockito.verify(gamerRepository, Mockito.never()).findJoinedCommunities(Mockito.anyString());
+    }
+
+    @Test
+    void testGetUserInfo_whenAssociationIsCached_ReadSectionFromGamerWithoutQuery() {
+        Gamer gamer = getGamer();
+        gamer.getLikedgames().add(new Games());
+
+        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerCollectionCache.contains("likedgames", "test")).thenReturn(true);
+
+        UserInfoResponse result = defaultApplicationService.getUserInfo(token, EnumSet.of(UserInfoSection.GAMES));
+        assertEquals(1, result.getBody().getData().getGames().size());
+        assertTrue(result.getBody().getData().getIncompleteSections().isEmpty());
+        Mockito.verify(gamerRepository, Mockito.never()).findWithLikedGames(Mockito.anyString());
+    }
+
+    @Test
+    void testGetUserInfo_whenSectionFails_ReturnOtherSectionsAndFlagFailedSection() {
+        Gamer gamer = getGamer();
+        List<GamerDto> friends = List.of(new GamerDto("test2", "test2", 20, "test", "test"));
 
-        Mockito.when(keywordsRepository.findAll()).thenReturn(keywords);
+        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findFriends(Mockito.anyString())).thenReturn(friends);
+        Mockito.when(gamerRepository.findJoinedCommunities(Mockito.anyString()))
+                .thenThrow(new RuntimeException("db down"));
 
-        KeywordsResponse result = defaultApplicationService.getKeywords();
-        assertEquals(2, result.getBody().getData().getKeywords().size());
+        UserInfoResponse result = defaultApplicationService.getUserInfo(token, UserInfoSection.all());
         assertEquals("100", result.getStatus().getCode());
+        assertEquals(1, result.getBody().getData().getFriends().size());
+        assertTrue(result.getBody().getData().getJoinedCommunities().isEmpty());
+        assertEquals(List.of("joinedCommunities"), result.getBody().getData().getIncompleteSections());
+    }
+
+    @Test
+    void testGetKeywords_whenCalled_ReturnKeywordCatalogSnapshot() {
+        CatalogSnapshot<KeywordsResponse> snapshot = new CatalogSnapshot<>(1, "\"test\"", new KeywordsResponse());
+
+        Mockito.when(keywordCatalog.snapshot()).thenReturn(snapshot);
+
+        CatalogSnapshot<KeywordsResponse> result = defaultApplicationService.getKeywords();
+        assertSame(snapshot, result);
     }
 
     @Test
-    void testGetGames_whenCalled_ReturnGames() {
-        List<Games> games = new ArrayList<>();
-        games.add(new Games());
-        games.add(new Games());
+    void testGetGames_whenCalled_ReturnGamesFromCatalog() {
+        GamesResponse gamesResponse = new GamesResponse();
 
-        Mockito.when(gamesRepository.findAll()).thenReturn(games);
+        Mockito.when(gamesCatalog.getGames()).thenReturn(gamesResponse);
 
         GamesResponse result = defaultApplicationService.getGames();
-        assertEquals(2, result.getBody().getData().getGames().size());
-        assertEquals("100", result.getStatus().getCode());
+        assertSame(gamesResponse, result);
+        Mockito.verifyNoInteractions(gamesRepository);
     }
 
     @Test
-    void testGetPopularGames_whenCalled_ReturnPopularGames() {
-        List<Games> games = new ArrayList<>();
-        games.add(new Games());
-        games.add(new Games());
+    void testGetPopularGames_whenCalled_ReturnPopularGamesFromCatalog() {
+        GamesResponse gamesResponse = new GamesResponse();
+
+        Mockito.when(gamesCatalog.getPopularGames()).thenReturn(gamesResponse);
 
-        Mockito.when(gamesRepository.findAllByIsPopularTrueOrderByAvgVoteDesc()).thenReturn(games);
         GamesResponse result = defaultApplicationService.getPopularGames();
-        assertEquals(2, result.getBody().getData().getGames().size());
-        assertEquals("100", result.getStatus().getCode());
+        assertSame(gamesResponse, result);
+        Mockito.verifyNoInteractions(gamesRepository);
+    }
+
+    @Test
+    void testSearchGames_whenSizeTooLarge_SearchCatalogWithMaxPageSize() {
+        GamesResponse gamesResponse = new GamesResponse();
+
+        Mockito.when(gamesCatalog.searchGames("leg", 100)).thenReturn(gamesResponse);
+
+        GamesResponse result = defaultApplicationService.searchGames("leg", 1000);
+        assertSame(gamesResponse, result);
+        Mockito.verifyNoInteractions(gamesRepository);
     }
 
     @Test
@@ -144,11 +288,10 @@ class DefaultApplicationServiceTest {
         avatars2.setIsSpecial(false);
         avatarsList.add(avatars2);
         avatarsList.add(avatars2);
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findAllByIsSpecialFalse()).thenReturn(avatarsList);
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(avatarCatalog.getFreeAvatars()).thenReturn(avatarsList);
 
-        AvatarsResponse result = defaultApplicationService.getAvatars(token);
+        AvatarsResponse result = defaultApplicationService.getAvatars(principal);
         assertEquals(3, result.getBody().getData().getAvatars().size());
         assertEquals("100", result.getStatus().getCode());
     }
@@ -165,11 +308,10 @@ class DefaultApplicationServiceTest {
         achievements.add(achievement);
         gamer.getGamerEarnedAchievements().add(achievement);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
         Mockito.when(achievementsRepository.findAll()).thenReturn(achievements);
 
-        AchievementResponse result = defaultApplicationService.getAchievements(token);
+        AchievementResponse result = defaultApplicationService.getAchievements(principal);
         assertEquals(1, result.getBody().getData().getAchievementsList().size());
         assertTrue(result.getBody().getData().getAchievementsList().get(0).getIsEarned());
         assertEquals("100", result.getStatus().getCode());
@@ -180,12 +322,11 @@ class DefaultApplicationServiceTest {
         Gamer gamer = getGamer();
         String achievementId = String.valueOf(UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d9"));
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
         Mockito.when(achievementsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.empty());
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.collectAchievement(token, achievementId));
+                BusinessException.class, () -> defaultApplicationService.collectAchievement(principal, achievementId));
         assertEquals(124, exception.getTransactionCode().getId());
     }
 
@@ -195,12 +336,11 @@ class DefaultApplicationServiceTest {
         String achievementId = String.valueOf(UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1"));
         Achievements achievement = getAchievement();
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
         Mockito.when(achievementsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(achievement));
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.collectAchievement(token, achievementId));
+                BusinessException.class, () -> defaultApplicationService.collectAchievement(principal, achievementId));
         assertEquals(126, exception.getTransactionCode().getId());
     }
 
@@ -209,50 +349,59 @@ class DefaultApplicationServiceTest {
         Gamer gamer = getGamer();
         String achievementId = String.valueOf(UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1"));
         Achievements achievement = getAchievement();
-        gamer.getGamerEarnedAchievements().add(achievement);
-        gamer.getGamerCollectedAchievements().add(achievement);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.hasEarnedAchievement("test", achievement.getId()))
+                .thenReturn(true);
+        Mockito.when(collectedAchievementRepository.existsByGamerIdAndAchievementId("test", achievement.getId()))
+                .thenReturn(true);
         Mockito.when(achievementsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(achievement));
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.collectAchievement(token, achievementId));
+                BusinessException.class, () -> defaultApplicationService.collectAchievement(principal, achievementId));
         assertEquals(125, exception.getTransactionCode().getId());
     }
 
     @Test
     void testCollectAchievement_whenCalledWithValidAchievement_ReturnSuccess() {
-        Gamer gamer = getGamer();
         String achievementId = String.valueOf(UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1"));
         Achievements achievement = getAchievement();
-        gamer.getGamerEarnedAchievements().add(achievement);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.hasEarnedAchievement("test", achievement.getId()))
+                .thenReturn(true);
+        Mockito.when(gamerRepository.creditCoin("test", 100)).thenReturn(1);
         Mockito.when(achievementsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(achievement));
 
-        DefaultMessageResponse result = defaultApplicationService.collectAchievement(token, achievementId);
+        DefaultMessageResponse result = defaultApplicationService.collectAchievement(principal, achievementId);
         assertEquals("100", result.getStatus().getCode());
-        assertEquals(100, gamer.getCoin());
+        Mockito.verify(eventPublisher).publishEvent(new AchievementCollectedEvent("test", achievement.getId()));
+        Mockito.verify(collectedAchievementRepository).insert("test", achievement.getId());
+        Mockito.verify(gamerRepository, Mockito.never()).save(Mockito.any(Gamer.class));
     }
 
     @Test
-    void testGetMarketPlace_whenCalled_ReturnMarketItems() {
-        List<Avatars> specialAvatars = new ArrayList<>();
-        Avatars avatar = new Avatars();
-        avatar.setPrice(100);
-        avatar.setId(UUID.randomUUID());
-        avatar.setImage("test");
-        avatar.setIsSpecial(true);
-        specialAvatars.add(avatar);
-        specialAvatars.add(avatar);
+    void testCollectAchievement_whenCollectedConcurrently_ReturnErrorCode125AndDoNotCredit() {
+        String achievementId = String.valueOf(UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1"));
+        Achievements achievement = getAchievement();
 
-        Mockito.when(avatarsRepository.findAllByIsSpecialTrue()).thenReturn(specialAvatars);
+        Mockito.when(achievementsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(achievement));
+        Mockito.when(gamerRepository.hasEarnedAchievement("test", achievement.getId()))
+                .thenReturn(true);
+        Mockito.when(collectedAchievementRepository.insert("test", achievement.getId()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        BusinessException exception = assertThrows(
+                BusinessException.class, () -> defaultApplicationService.collectAchievement(principal, achievementId));
+        assertEquals(125, exception.getTransactionCode().getId());
+        Mockito.verify(gamerRepository, Mockito.never()).creditCoin(Mockito.anyString(), Mockito.anyInt());
+    }
+
+    @Test
+    void testGetMarketPlace_whenCalled_ReturnCatalogResponse() {
+        MarketplaceResponse marketplaceResponse = new MarketplaceResponse();
+        Mockito.when(avatarCatalog.getMarketplace()).thenReturn(marketplaceResponse);
 
         MarketplaceResponse result = defaultApplicationService.getMarketplace();
-        assertEquals(2, result.getBody().getData().getSpecialAvatars().size());
-        assertEquals("100", result.getStatus().getCode());
+        assertSame(marketplaceResponse, result);
     }
 
     @Test
@@ -262,12 +411,11 @@ class DefaultApplicationServiceTest {
         UUID id = UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1");
         String itemId = String.valueOf(id);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.empty());
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(avatarCatalog.findById(Mockito.any(UUID.class))).thenReturn(Optional.empty());
 
         BusinessException exception =
-                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(token, itemId));
+                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(principal, itemId));
         assertEquals(127, exception.getTransactionCode().getId());
     }
 
@@ -283,12 +431,11 @@ class DefaultApplicationServiceTest {
         avatar.setPrice(0);
         avatar.setId(id);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(avatarCatalog.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
 
         BusinessException exception =
-                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(token, itemId));
+                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(principal, itemId));
         assertEquals(128, exception.getTransactionCode().getId());
     }
 
@@ -303,13 +450,13 @@ class DefaultApplicationServiceTest {
         avatar.setIsSpecial(true);
         avatar.setPrice(100);
         avatar.setId(id);
-        gamer.getBoughtAvatars().add(avatar);
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(boughtAvatarRepository.existsByUserIdAndAvatarId("test", id))
+                .thenReturn(true);
+        Mockito.when(avatarCatalog.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
 
         BusinessException exception =
-                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(token, itemId));
+                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(principal, itemId));
         assertEquals(128, exception.getTransactionCode().getId());
     }
 
@@ -323,17 +470,16 @@ class DefaultApplicationServiceTest {
         avatar.setIsSpecial(true);
         avatar.setPrice(100);
         avatar.setId(id);
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(avatarCatalog.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
 
         BusinessException exception =
-                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(token, itemId));
+                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(principal, itemId));
         assertEquals(129, exception.getTransactionCode().getId());
     }
 
     @Test
-    void testBuyItem_whenGamerEarnsAchievement_ReturnSuccessAndSendNotifToGamer() {
+    void testBuyItem_whenCalledValid_PublishItemBoughtEvent() {
         Gamer gamer = getGamer();
         gamer.setCoin(100);
         UUID id = UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1");
@@ -343,19 +489,15 @@ class DefaultApplicationServiceTest {
         avatar.setIsSpecial(true);
         avatar.setPrice(100);
         avatar.setId(id);
-        Achievements achievement = getAchievement();
-        achievement.setAchievementName("Rich in the hood!!!");
-        gamer.getBoughtAvatars().add(new Avatars());
-        gamer.getBoughtAvatars().add(new Avatars());
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
-        Mockito.when(achievementsRepository.findByAchievementName(Mockito.anyString()))
-                .thenReturn(Optional.of(achievement));
-
-        DefaultMessageResponse result = defaultApplicationService.buyItem(token, itemId);
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.debitCoin("test", 100)).thenReturn(1);
+        Mockito.when(avatarCatalog.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
+
+        DefaultMessageResponse result = defaultApplicationService.buyItem(principal, itemId);
         assertEquals("100", result.getStatus().getCode());
-        assertTrue(gamer.getGamerEarnedAchievements().contains(achievement));
+        Mockito.verify(eventPublisher).publishEvent(new ItemBoughtEvent("test", id));
+        Mockito.verify(achievementsRepository, Mockito.never()).findByAchievementName(Mockito.anyString());
+        assertTrue(gamer.getGamerEarnedAchievements().isEmpty());
     }
 
     @Test
@@ -369,87 +511,168 @@ class DefaultApplicationServiceTest {
         avatar.setIsSpecial(true);
         avatar.setPrice(100);
         avatar.setId(id);
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.debitCoin("test", 100)).thenReturn(1);
+        Mockito.when(avatarCatalog.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
 
-        DefaultMessageResponse result = defaultApplicationService.buyItem(token, itemId);
+        DefaultMessageResponse result = defaultApplicationService.buyItem(principal, itemId);
         assertEquals("100", result.getStatus().getCode());
+        Mockito.verify(boughtAvatarRepository).insert("test", id);
+        Mockito.verify(gamerRepository, Mockito.never()).save(Mockito.any(Gamer.class));
     }
 
     @Test
-    void testGetFriends_whenAchievementNotFound_ReturnErrorCode124() {
-        Gamer gamer = getGamer();
-        gamer.getFriends().add(new Gamer());
-
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(achievementsRepository.findByAchievementName(Mockito.anyString()))
-                .thenReturn(Optional.empty());
+    void testBuyItem_whenBoughtConcurrently_ReturnErrorCode128() {
+        UUID id = UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1");
+        String itemId = String.valueOf(id);
+        Avatars avatar = new Avatars();
+        avatar.setImage("test");
+        avatar.setIsSpecial(true);
+        avatar.setPrice(100);
+        avatar.setId(id);
+        Mockito.when(avatarCatalog.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(avatar));
+        Mockito.when(gamerRepository.debitCoin("test", 100)).thenReturn(1);
+        Mockito.when(boughtAvatarRepository.insert("test", id))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
 
         BusinessException exception =
-                assertThrows(BusinessException.class, () -> defaultApplicationService.getFriends(token));
-        assertEquals(124, exception.getTransactionCode().getId());
+                assertThrows(BusinessException.class, () -> defaultApplicationService.buyItem(principal, itemId));
+        assertEquals(128, exception.getTransactionCode().getId());
     }
 
     @Test
-    void testGetFriends_whenAchievementAlreadyEarned_ReturnListOfFriends() {
-        Gamer gamer = getGamer();
-        gamer.getFriends().add(getGamer());
-        gamer.getGamerEarnedAchievements().add(getAchievement());
+    void testGetFriends_whenFirstFriend_DoNotLoadGamerOrAwardAchievement() {
+        Mockito.when(friendRepository.findFriendsPage(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+                .thenReturn(getGamerDtoList(1));
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(achievementsRepository.findByAchievementName(Mockito.anyString()))
-                .thenReturn(Optional.of(getAchievement()));
-
-        FriendsResponse result = defaultApplicationService.getFriends(token);
+        FriendsResponse result = defaultApplicationService.getFriends(principal, null, 50);
         assertEquals(1, result.getBody().getData().getFriends().size());
         assertEquals("100", result.getStatus().getCode());
+        Mockito.verify(gamerRepository, Mockito.never()).findById(Mockito.anyString());
+        Mockito.verifyNoInteractions(achievementsRepository, notificationOutbox, eventPublisher);
     }
 
     @Test
-    void testGetFriends_whenAchievementEarned_ReturnListOfFriends() {
+    void testGetFriends_whenCalledWithValidToken_ReturnListOfFriends() {
         Gamer gamer = getGamer();
-        gamer.getFriends().add(getGamer());
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(achievementsRepository.findByAchievementName(Mockito.anyString()))
-                .thenReturn(Optional.of(getAchievement()));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(friendRepository.findFriendsPage(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+                .thenReturn(getGamerDtoList(2));
 
-        FriendsResponse result = defaultApplicationService.getFriends(token);
-        assertEquals(1, result.getBody().getData().getFriends().size());
+        FriendsResponse result = defaultApplicationService.getFriends(principal, null, 50);
+        assertEquals(2, result.getBody().getData().getFriends().size());
+        assertEquals("test", result.getBody().getData().getFriends().get(0).getAvatar());
+        assertNull(result.getBody().getData().getNextCursor());
         assertEquals("100", result.getStatus().getCode());
-        assertEquals(1, gamer.getGamerEarnedAchievements().size());
     }
 
     @Test
-    void testGetFriends_whenCalledWithValidToken_ReturnListOfFriends() {
+    void testGetFriends_whenMoreFriendsThanPageSize_ReturnPageAndNextCursor() {
         Gamer gamer = getGamer();
-        gamer.getFriends().add(getGamer());
-        gamer.getFriends().add(getGamer());
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(new Avatars()));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(friendRepository.findFriendsPage("test", "", PageRequest.of(0, 3)))
+                .thenReturn(getGamerDtoList(3));
+        Mockito.when(friendRepository.findFriendsPage("test", "friend-1", PageRequest.of(0, 3)))
+                .thenReturn(getGamerDtoList(1));
+
+        FriendsResponse firstPage = defaultApplicationService.getFriends(principal, null, 2);
+        assertEquals(2, firstPage.getBody().getData().getFriends().size());
+        assertNotNull(firstPage.getBody().getData().getNextCursor());
+
+        FriendsResponse secondPage = defaultApplicationService.getFriends(
+                principal, firstPage.getBody().getData().getNextCursor(), 2);
+        assertEquals(1, secondPage.getBody().getData().getFriends().size());
+        assertNull(secondPage.getBody().getData().getNextCursor());
+        Mockito.verify(achievementsRepository, Mockito.never()).findByAchievementName(Mockito.anyString());
+    }
+
+    @Test
+    void testGetFriends_whenCursorInvalid_ThrowIllegalArgumentException() {
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(getGamer()));
+
+        assertThrows(IllegalArgumentException.class, () -> defaultApplicationService.getFriends(principal, "%%%", 50));
+    }
+
+    @Test
+    void testGetMutualFriends_whenUsersShareFriends_LoadOnlyMutualFriends() {
+        List<GamerDto> mutualFriends = getGamerDtoList(2);
+        List<String> mutualIds = List.of("friend-0", "friend-1");
+
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
+        Mockito.when(friendGraph.mutualFriends("test", "test2")).thenReturn(mutualIds);
+        Mockito.when(gamerRepository.findGamerDtos(mutualIds)).thenReturn(mutualFriends);
 
-        FriendsResponse result = defaultApplicationService.getFriends(token);
+        FriendsResponse result = defaultApplicationService.getMutualFriends("test2", principal);
         assertEquals(2, result.getBody().getData().getFriends().size());
+        assertNull(result.getBody().getData().getNextCursor());
         assertEquals("100", result.getStatus().getCode());
+        Mockito.verifyNoInteractions(friendRepository);
+    }
+
+    @Test
+    void testGetMutualFriends_whenNoMutualFriends_DoNotQueryGamers() {
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
+        Mockito.when(friendGraph.mutualFriends("test", "test2")).thenReturn(List.of());
+
+        FriendsResponse result = defaultApplicationService.getMutualFriends("test2", principal);
+        assertTrue(result.getBody().getData().getFriends().isEmpty());
+        Mockito.verify(gamerRepository, Mockito.never()).findGamerDtos(Mockito.any());
+    }
+
+    @Test
+    void testGetMutualFriends_whenUserNotFound_ReturnErrorCode103() {
+        BusinessException exception = assertThrows(
+                BusinessException.class, () -> defaultApplicationService.getMutualFriends("missing", principal));
+        assertEquals(103, exception.getTransactionCode().getId());
+    }
+
+    @Test
+    void testGetBuddySuggestions_whenIndexHasCandidates_ReturnGamersInScoreOrder() {
+        List<GamerDto> gamers = getGamerDtoList(2);
+        Mockito.when(buddySuggestionIndex.suggest(Mockito.eq("test"), Mockito.any(), Mockito.eq(20)))
+                .thenReturn(List.of(
+                        new BuddySuggestionIndex.Suggestion("friend-1", 3),
+                        new BuddySuggestionIndex.Suggestion("friend-0", 1)));
+        Mockito.when(gamerRepository.findGamerDtos(List.of("friend-1", "friend-0")))
+                .thenReturn(gamers);
+
+        BuddySuggestionsResponse result = defaultApplicationService.getBuddySuggestions(principal, 20);
+        List<BuddySuggestionDto> suggestions = result.getBody().getData().getSuggestions();
+        assertEquals(2, suggestions.size());
+        assertEquals("friend-1", suggestions.get(0).getUserId());
+        assertEquals(3, suggestions.get(0).getScore());
+        assertEquals("friend-0", suggestions.get(1).getUserId());
+        assertEquals("100", result.getStatus().getCode());
+    }
+
+    @Test
+    void testGetBuddySuggestions_whenCandidateIsFriendBlockedOrPending_ExcludeCandidate() {
+        Mockito.when(waitingFriendRepository.findPendingIds("test")).thenReturn(Set.of("pending"));
+        Mockito.when(blockedFriendRepository.findBlockIds("test")).thenReturn(Set.of("blocker"));
+        Mockito.when(friendGraph.connections("test")).thenReturn(Set.of("friend"));
+        Mockito.when(buddySuggestionIndex.suggest(Mockito.eq("test"), Mockito.any(), Mockito.eq(100)))
+                .thenReturn(List.of());
+
+        BuddySuggestionsResponse result = defaultApplicationService.getBuddySuggestions(principal, 500);
+        assertTrue(result.getBody().getData().getSuggestions().isEmpty());
+
+        ArgumentCaptor<Collection<String>> excluded = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(buddySuggestionIndex).suggest(Mockito.eq("test"), excluded.capture(), Mockito.eq(100));
+        assertEquals(Set.of("pending", "friend", "blocker"), Set.copyOf(excluded.getValue()));
+        Mockito.verify(gamerRepository, Mockito.never()).findGamerDtos(Mockito.any());
     }
 
     @Test
     void testGetWaitingFriends_whenCalledWithValidToken_ReturnListOfFriendRequests() {
         Gamer gamer = getGamer();
-        gamer.getWaitingFriends().add(getGamer());
-        gamer.getWaitingFriends().add(getGamer());
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(new Avatars()));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(waitingFriendRepository.findWaitingFriendsPage("test", "", PageRequest.of(0, 51)))
+                .thenReturn(getGamerDtoList(2));
 
-        FriendsResponse result = defaultApplicationService.getWaitingFriends(token);
+        FriendsResponse result = defaultApplicationService.getWaitingFriends(principal, null, 50);
         assertEquals(2, result.getBody().getData().getFriends().size());
         assertEquals("100", result.getStatus().getCode());
     }
@@ -457,14 +680,12 @@ class DefaultApplicationServiceTest {
     @Test
     void testGetBlockedFriends_whenCalledWithValidToken_ReturnListOfBlockedUsers() {
         Gamer gamer = getGamer();
-        gamer.getBlockedFriends().add(getGamer());
-        gamer.getBlockedFriends().add(getGamer());
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(avatarsRepository.findById(Mockito.any(UUID.class))).thenReturn(Optional.of(new Avatars()));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(blockedFriendRepository.findBlockedFriendsPage("test", "", PageRequest.of(0, 101)))
+                .thenReturn(getGamerDtoList(2));
 
-        FriendsResponse result = defaultApplicationService.getBlockedFriends(token);
+        FriendsResponse result = defaultApplicationService.getBlockedFriends(principal, null, 500);
         assertEquals(2, result.getBody().getData().getFriends().size());
         assertEquals("100", result.getStatus().getCode());
     }
@@ -474,11 +695,10 @@ class DefaultApplicationServiceTest {
         FriendRequest friendRequest = new FriendRequest();
         friendRequest.setUserId("test2");
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.empty());
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.empty());
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.acceptFriend(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.acceptFriend(friendRequest, principal));
         assertEquals(103, exception.getTransactionCode().getId());
     }
 
@@ -488,12 +708,11 @@ class DefaultApplicationServiceTest {
         friendRequest.setUserId("test2");
         Gamer gamer = getGamer();
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.empty());
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.empty());
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.acceptFriend(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.acceptFriend(friendRequest, principal));
         assertEquals(103, exception.getTransactionCode().getId());
     }
 
@@ -506,14 +725,14 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getFriends().add(friend);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.of(friend));
+        Mockito.when(friendRepository.existsByUserIdAndFriendId("test", "test2"))
+                .thenReturn(true);
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.acceptFriend(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.acceptFriend(friendRequest, principal));
         assertEquals(115, exception.getTransactionCode().getId());
     }
 
@@ -527,12 +746,11 @@ class DefaultApplicationServiceTest {
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.of(friend));
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.acceptFriend(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.acceptFriend(friendRequest, principal));
         assertEquals(116, exception.getTransactionCode().getId());
     }
 
@@ -545,14 +763,18 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getWaitingFriends().add(friend);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.of(friend));
+        Mockito.when(waitingFriendRepository.deleteByUserIdAndWaitingFriendId("test", "test2"))
+                .thenReturn(1);
 
-        DefaultMessageResponse result = defaultApplicationService.acceptFriend(friendRequest, token);
+        DefaultMessageResponse result = defaultApplicationService.acceptFriend(friendRequest, principal);
         assertEquals("100", result.getStatus().getCode());
+        Mockito.verify(friendRepository, Mockito.times(2)).save(Mockito.any(Friend.class));
+        Mockito.verify(eventPublisher).publishEvent(new FriendAddedEvent("test", "test2"));
+        Mockito.verify(eventPublisher).publishEvent(new FriendAddedEvent("test2", "test"));
+        Mockito.verify(notificationOutbox).enqueue(Mockito.any(SendNotificationTokenRequest.class));
     }
 
     @Test
@@ -565,12 +787,11 @@ class DefaultApplicationServiceTest {
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.rejectFriend(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.rejectFriend(friendRequest, principal));
         assertEquals(116, exception.getTransactionCode().getId());
     }
 
@@ -583,13 +804,13 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getWaitingFriends().add(friend);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
+        Mockito.when(waitingFriendRepository.deleteByUserIdAndWaitingFriendId("test", "test2"))
+                .thenReturn(1);
 
-        DefaultMessageResponse result = defaultApplicationService.rejectFriend(friendRequest, token);
+        DefaultMessageResponse result = defaultApplicationService.rejectFriend(friendRequest, principal);
         assertEquals("100", result.getStatus().getCode());
     }
 
@@ -603,12 +824,11 @@ class DefaultApplicationServiceTest {
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.removeFriend(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.removeFriend(friendRequest, principal));
         assertEquals(117, exception.getTransactionCode().getId());
     }
 
@@ -621,14 +841,17 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getFriends().add(friend);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
+        Mockito.when(friendRepository.deleteByUserIdAndFriendId("test", "test2"))
+                .thenReturn(1);
 
-        DefaultMessageResponse result = defaultApplicationService.removeFriend(friendRequest, token);
+        DefaultMessageResponse result = defaultApplicationService.removeFriend(friendRequest, principal);
         assertEquals("100", result.getStatus().getCode());
+        Mockito.verify(friendRepository).deleteByUserIdAndFriendId("test2", "test");
+        Mockito.verify(eventPublisher).publishEvent(new FriendRemovedEvent("test", "test2"));
+        Mockito.verify(eventPublisher).publishEvent(new FriendRemovedEvent("test2", "test"));
     }
 
     @Test
@@ -640,14 +863,14 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getBlockedFriends().add(friend);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
+        Mockito.when(blockedFriendRepository.existsByGamerIdAndBlockedId("test", "test2"))
+                .thenReturn(true);
 
-        BusinessException exception =
-                assertThrows(BusinessException.class, () -> defaultApplicationService.blockUser(friendRequest, token));
+        BusinessException exception = assertThrows(
+                BusinessException.class, () -> defaultApplicationService.blockUser(friendRequest, principal));
         assertEquals(118, exception.getTransactionCode().getId());
     }
 
@@ -660,15 +883,16 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getFriends().add(friend);
-        gamer.getWaitingFriends().add(friend);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
 
-        DefaultMessageResponse result = defaultApplicationService.blockUser(friendRequest, token);
+        DefaultMessageResponse result = defaultApplicationService.blockUser(friendRequest, principal);
         assertEquals("100", result.getStatus().getCode());
+        Mockito.verify(friendRepository).deleteByUserIdAndFriendId("test", "test2");
+        Mockito.verify(waitingFriendRepository).deleteByUserIdAndWaitingFriendId("test2", "test");
+        Mockito.verify(blockedFriendRepository).save(Mockito.any(BlockedFriend.class));
+        Mockito.verify(eventPublisher).publishEvent(new UserBlockedEvent("test", "test2"));
     }
 
     @Test
@@ -681,12 +905,11 @@ class DefaultApplicationServiceTest {
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.unblockUser(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.unblockUser(friendRequest, principal));
         assertEquals(119, exception.getTransactionCode().getId());
     }
 
@@ -699,14 +922,15 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getBlockedFriends().add(friend);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.existsById("test2")).thenReturn(true);
+        Mockito.when(blockedFriendRepository.deleteByGamerIdAndBlockedId("test", "test2"))
+                .thenReturn(1);
 
-        DefaultMessageResponse result = defaultApplicationService.unblockUser(friendRequest, token);
+        DefaultMessageResponse result = defaultApplicationService.unblockUser(friendRequest, principal);
         assertEquals("100", result.getStatus().getCode());
+        Mockito.verify(eventPublisher).publishEvent(new UserUnblockedEvent("test", "test2"));
     }
 
     @Test
@@ -718,14 +942,14 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        friend.getBlockedFriends().add(gamer);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.of(friend));
+        Mockito.when(blockedFriendRepository.existsByGamerIdAndBlockedId("test2", "test"))
+                .thenReturn(true);
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.sendFriendRequest(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.sendFriendRequest(friendRequest, principal));
         assertEquals(121, exception.getTransactionCode().getId());
     }
 
@@ -738,14 +962,14 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getBlockedFriends().add(friend);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.of(friend));
+        Mockito.when(blockedFriendRepository.existsByGamerIdAndBlockedId("test", "test2"))
+                .thenReturn(true);
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.sendFriendRequest(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.sendFriendRequest(friendRequest, principal));
         assertEquals(113, exception.getTransactionCode().getId());
     }
 
@@ -758,15 +982,14 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        gamer.getFriends().add(friend);
-        friend.getFriends().add(gamer);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.of(friend));
+        Mockito.when(friendRepository.existsByUserIdAndFriendId("test2", "test"))
+                .thenReturn(true);
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.sendFriendRequest(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.sendFriendRequest(friendRequest, principal));
         assertEquals(122, exception.getTransactionCode().getId());
     }
 
@@ -779,14 +1002,14 @@ class DefaultApplicationServiceTest {
         friend.setUserId("test2");
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
-        friend.getWaitingFriends().add(gamer);
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.of(friend));
+        Mockito.when(waitingFriendRepository.existsByUserIdAndWaitingFriendId("test2", "test"))
+                .thenReturn(true);
 
         BusinessException exception = assertThrows(
-                BusinessException.class, () -> defaultApplicationService.sendFriendRequest(friendRequest, token));
+                BusinessException.class, () -> defaultApplicationService.sendFriendRequest(friendRequest, principal));
         assertEquals(120, exception.getTransactionCode().getId());
     }
 
@@ -800,12 +1023,94 @@ class DefaultApplicationServiceTest {
         friend.setGamerUsername("test2");
         friend.setEmail("test2");
 
-        Mockito.when(jwtService.extractUsername(Mockito.anyString())).thenReturn("test@test.com");
-        Mockito.when(gamerRepository.findByEmail(Mockito.anyString())).thenReturn(Optional.of(gamer));
-        Mockito.when(gamerRepository.findById(Mockito.anyString())).thenReturn(Optional.of(friend));
+        Mockito.when(gamerRepository.findById("test")).thenReturn(Optional.of(gamer));
+        Mockito.when(gamerRepository.findById("test2")).thenReturn(Optional.of(friend));
 
-        DefaultMessageResponse result = defaultApplicationService.sendFriendRequest(friendRequest, token);
+        DefaultMessageResponse result = defaultApplicationService.sendFriendRequest(friendRequest, principal);
         assertEquals("100", result.getStatus().getCode());
+        Mockito.verify(waitingFriendRepository).save(Mockito.any(WaitingFriend.class));
+        Mockito.verify(notificationOutbox).enqueue(Mockito.any(SendNotificationTokenRequest.class));
+    }
+
+    @Test
+    void testApplyFriendOperations_whenOperationsMixed_ReturnPerItemResultsAndWriteOnlyValidOnes() {
+        BulkFriendRequest bulkFriendRequest = new BulkFriendRequest();
+        bulkFriendRequest.setOperations(List.of(
+                getFriendOperation("requester", FriendOperationRequest.Action.ACCEPT),
+                getFriendOperation("stranger", FriendOperationRequest.Action.REJECT),
+                getFriendOperation("blocked", FriendOperationRequest.Action.BLOCK),
+                getFriendOperation("missing", FriendOperationRequest.Action.UNBLOCK)));
+        Gamer gamer = getGamer();
+        Gamer requester = getGamer();
+        requester.setUserId("requester");
+        Gamer stranger = getGamer();
+        stranger.setUserId("stranger");
+        Gamer blocked = getGamer();
+        blocked.setUserId("blocked");
+
+        Mockito.when(gamerRepository.findAllById(Mockito.anyIterable()))
+                .thenReturn(List.of(gamer, requester, stranger, blocked));
+        Mockito.when(waitingFriendRepository.findWaitingFriendIdsIn(Mockito.eq("test"), Mockito.anyCollection()))
+                .thenReturn(Set.of("requester"));
+        Mockito.when(blockedFriendRepository.findBlockedIdsIn(Mockito.eq("test"), Mockito.anyCollection()))
+                .thenReturn(Set.of("blocked"));
+
+        BulkFriendResponse result = defaultApplicationService.applyFriendOperations(bulkFriendRequest, principal);
+        List<FriendOperationResultDto> results = result.getBody().getData().getResults();
+        assertEquals("100", results.get(0).getStatus().getCode());
+        assertEquals("116", results.get(1).getStatus().getCode());
+        assertEquals("118", results.get(2).getStatus().getCode());
+        assertEquals("103", results.get(3).getStatus().getCode());
+        Mockito.verify(waitingFriendRepository).deleteByUserIdAndWaitingFriendIdIn("test", Set.of("requester"));
+        Mockito.verify(friendRepository).deleteByUserIdInAndFriendId(Set.of("requester"), "test");
+        Mockito.verify(blockedFriendRepository, Mockito.never())
+                .deleteByGamerIdAndBlockedIdIn(Mockito.anyString(), Mockito.anyCollection());
+        Mockito.verify(batchInsertRepository)
+                .persistAll(Mockito.argThat(
+                        rows -> rows.size() == 2 && rows.stream().allMatch(Friend.class::isInstance)));
+        Mockito.verify(eventPublisher).publishEvent(new FriendAddedEvent("test", "requester"));
+        Mockito.verify(notificationOutbox).enqueue(Mockito.any(SendNotificationTokenRequest.class));
+    }
+
+    @Test
+    void testApplyFriendOperations_whenBlockingFriend_RemoveRelationsAndInsertBlock() {
+        BulkFriendRequest bulkFriendRequest = new BulkFriendRequest();
+        bulkFriendRequest.setOperations(List.of(getFriendOperation("test2", FriendOperationRequest.Action.BLOCK)));
+        Gamer friend = getGamer();
+        friend.setUserId("test2");
+        Mockito.when(gamerRepository.findAllById(Mockito.anyIterable())).thenReturn(List.of(getGamer(), friend));
+
+        BulkFriendResponse result = defaultApplicationService.applyFriendOperations(bulkFriendRequest, principal);
+        assertEquals(
+                "100",
+                result.getBody().getData().getResults().get(0).getStatus().getCode());
+        Mockito.verify(friendRepository).deleteByUserIdAndFriendIdIn("test", Set.of("test2"));
+        Mockito.verify(friendRepository).deleteByUserIdInAndFriendId(Set.of("test2"), "test");
+        Mockito.verify(waitingFriendRepository).deleteByUserIdAndWaitingFriendIdIn("test", Set.of("test2"));
+        Mockito.verify(waitingFriendRepository).deleteByUserIdInAndWaitingFriendId(Set.of("test2"), "test");
+        Mockito.verify(batchInsertRepository)
+                .persistAll(Mockito.argThat(
+                        rows -> rows.size() == 1 && rows.iterator().next() instanceof BlockedFriend));
+    }
+
+    @Test
+    void testApplyFriendOperations_whenUserIdRepeated_ThrowIllegalArgumentException() {
+        BulkFriendRequest bulkFriendRequest = new BulkFriendRequest();
+        bulkFriendRequest.setOperations(List.of(
+                getFriendOperation("test2", FriendOperationRequest.Action.ACCEPT),
+                getFriendOperation("test2", FriendOperationRequest.Action.BLOCK)));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> defaultApplicationService.applyFriendOperations(bulkFriendRequest, principal));
+        Mockito.verifyNoInteractions(batchInsertRepository);
+    }
+
+    private FriendOperationRequest getFriendOperation(String userId, FriendOperationRequest.Action action) {
+        FriendOperationRequest operation = new FriendOperationRequest();
+        operation.setUserId(userId);
+        operation.setAction(action);
+        return operation;
     }
 
     private Gamer getGamer() {
@@ -833,6 +1138,14 @@ class DefaultApplicationServiceTest {
         return gamer;
     }
 
+    private List<GamerDto> getGamerDtoList(int size) {
+        List<GamerDto> gamerDtoList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            gamerDtoList.add(new GamerDto("friend-" + i, "friend-" + i, 15, "test", "test"));
+        }
+        return gamerDtoList;
+    }
+
     private Achievements getAchievement() {
         Achievements achievement = new Achievements();
         achievement.setAchievementName("test");
@@ -0,0 +1,69 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.infrastructure.entity.Achievements;
+import com.back2261.applicationservice.infrastructure.entity.Avatars;
+import com.back2261.applicationservice.infrastructure.entity.Games;
+import com.back2261.applicationservice.infrastructure.entity.Keywords;
+import com.back2261.applicationservice.interfaces.dto.AchievementsDto;
+import com.back2261.applicationservice.interfaces.dto.GamesDto;
+import com.back2261.applicationservice.interfaces.dto.KeywordsDto;
+import com.back2261.applicationservice.interfaces.dto.SpecialAvatarsDto;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+
+class DtoMapperTest {
+
+    @Test
+    void testToGamesDtoList_whenGamesGiven_CopySameFieldsAsBeanUtils() {
+        Games games = new Games("1", "Chess", "icon", "Strategy", 8.5F, "Board game", true, null);
+        GamesDto expected = new GamesDto();
+        BeanUtils.copyProperties(games, expected);
+
+        List<GamesDto> result = DtoMapper.toGamesDtoList(List.of(games));
+
+        assertEquals(1, result.size());
+        GamesDto gamesDto = result.get(0);
+        assertEquals(expected.getGameId(), gamesDto.getGameId());
+        assertEquals(expected.getGameName(), gamesDto.getGameName());
+        assertEquals(expected.getGameIcon(), gamesDto.getGameIcon());
+        assertEquals(expected.getCategory(), gamesDto.getCategory());
+        assertEquals(expected.getAvgVote(), gamesDto.getAvgVote());
+        assertEquals(expected.getDescription(), gamesDto.getDescription());
+    }
+
+    @Test
+    void testToKeywordsDtoList_whenKeywordsGiven_CopySameFieldsAsBeanUtils() {
+        Keywords keywords = new Keywords(UUID.randomUUID(), "Competitive", new Date(), "Ranked games", null);
+        KeywordsDto expected = new KeywordsDto();
+        BeanUtils.copyProperties(keywords, expected);
+
+        KeywordsDto keywordsDto = DtoMapper.toKeywordsDtoList(List.of(keywords)).get(0);
+
+        assertEquals(expected.getId(), keywordsDto.getId());
+        assertEquals(expected.getKeywordName(), keywordsDto.getKeywordName());
+        assertEquals(expected.getDescription(), keywordsDto.getDescription());
+    }
+
+    @Test
+    void testToAchievementsAndAvatarsDto_whenEntitiesGiven_ConvertIdsAndPrice() {
+        UUID id = UUID.randomUUID();
+        AchievementsDto achievementsDto =
+                DtoMapper.toAchievementsDto(new Achievements(id, "First Win", 50, "Win a game"), true, false);
+        SpecialAvatarsDto avatarsDto = DtoMapper.toSpecialAvatarsDto(new Avatars(id, "image", true, 300));
+
+        assertEquals(id.toString(), achievementsDto.getId());
+        assertEquals("First Win", achievementsDto.getAchievementName());
+        assertEquals(50, achievementsDto.getValue());
+        assertEquals("Win a game", achievementsDto.getDescription());
+        assertTrue(achievementsDto.getIsCollected());
+        assertFalse(achievementsDto.getIsEarned());
+        assertEquals(id.toString(), avatarsDto.getId());
+        assertEquals("image", avatarsDto.getImage());
+        assertEquals("300", avatarsDto.getPrice());
+    }
+}
@@ -0,0 +1,182 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.domain.event.FriendAddedEvent;
+import com.back2261.applicationservice.domain.event.FriendRemovedEvent;
+import com.back2261.applicationservice.domain.event.UserBlockedEvent;
+import com.back2261.applicationservice.domain.event.UserUnblockedEvent;
+import com.back2261.applicationservice.domain.model.GamerPair;
+import com.back2261.applicationservice.infrastructure.repository.BlockedFriendRepository;
+import com.back2261.applicationservice.infrastructure.repository.FriendRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FriendGraphTest {
+
+    @Mock
+    private FriendRepository friendRepository;
+
+    @Mock
+    private BlockedFriendRepository blockedFriendRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FriendGraph friendGraph;
+
+    @BeforeEach
+    void setUp() {
+        friendGraph = new FriendGraph(friendRepository, blockedFriendRepository, transactionManager);
+        stubFriends(friendships("alice", "bob", "alice", "carol", "bob", "carol", "dave", "carol"));
+        stubBlocked(List.of(new GamerPair("alice", "eve")));
+    }
+
+    @Test
+    void testConnections_whenLoadedFromRepositories_AnswerWithoutFurtherQueries() {
+        assertEquals(List.of("bob", "carol"), friendGraph.mutualFriends("alice", "alice"));
+        assertEquals(List.of("alice", "carol"), friendGraph.mutualFriends("bob", "bob"));
+        assertEquals(Set.of("bob", "carol", "eve"), friendGraph.connections("alice"));
+        assertEquals(Set.of("alice"), friendGraph.connections("eve"));
+        assertTrue(friendGraph.mutualFriends("eve", "eve").isEmpty());
+        assertTrue(friendGraph.connections("unknown").isEmpty());
+        Mockito.verify(friendRepository, Mockito.times(1)).streamAll();
+        Mockito.verify(blockedFriendRepository, Mockito.times(1)).streamAll();
+    }
+
+    @Test
+    void testLoad_whenRowsArriveUnordered_SortEveryList() {
+        stubFriends(friendships(
+                "bob", "zed", "carol", "zed", "dave", "zed", "alice", "dave", "alice", "carol", "alice", "bob"));
+
+        assertEquals(List.of("bob", "carol", "dave"), friendGraph.mutualFriends("alice", "zed"));
+    }
+
+    @Test
+    void testMutualFriends_whenUsersShareFriends_ReturnIntersection() {
+        assertEquals(List.of("carol"), friendGraph.mutualFriends("alice", "bob"));
+        assertEquals(List.of("alice", "bob", "dave"), friendGraph.mutualFriends("carol", "carol"));
+        assertEquals(List.of("carol"), friendGraph.mutualFriends("alice", "dave"));
+        assertTrue(friendGraph.mutualFriends("alice", "unknown").isEmpty());
+    }
+
+    @Test
+    void testOnFriendEvents_whenFriendshipChanges_UpdateGraphInPlace() {
+        friendGraph.load();
+
+        friendGraph.onFriendAdded(new FriendAddedEvent("alice", "dave"));
+        friendGraph.onFriendAdded(new FriendAddedEvent("dave", "alice"));
+        friendGraph.onFriendAdded(new FriendAddedEvent("frank", "alice"));
+        assertEquals(List.of("bob", "carol", "dave"), friendGraph.mutualFriends("alice", "alice"));
+        assertEquals(List.of("alice"), friendGraph.mutualFriends("frank", "frank"));
+        assertEquals(List.of("alice", "carol"), friendGraph.mutualFriends("bob", "dave"));
+
+        friendGraph.onFriendRemoved(new FriendRemovedEvent("alice", "bob"));
+        friendGraph.onFriendRemoved(new FriendRemovedEvent("bob", "alice"));
+        assertEquals(List.of("carol", "dave"), friendGraph.mutualFriends("alice", "alice"));
+        assertEquals(List.of("carol"), friendGraph.mutualFriends("bob", "dave"));
+    }
+
+    @Test
+    void testOnUserBlocked_whenUsersAreFriends_RemoveFriendshipAndRecordBlock() {
+        friendGraph.load();
+
+        friendGraph.onUserBlocked(new UserBlockedEvent("bob", "carol"));
+        assertEquals(List.of("alice"), friendGraph.mutualFriends("bob", "bob"));
+        assertEquals(List.of("alice", "dave"), friendGraph.mutualFriends("carol", "carol"));
+        assertEquals(Set.of("alice", "carol"), friendGraph.connections("bob"));
+        assertEquals(Set.of("alice", "bob", "dave"), friendGraph.connections("carol"));
+
+        friendGraph.onUserUnblocked(new UserUnblockedEvent("bob", "carol"));
+        assertEquals(Set.of("alice"), friendGraph.connections("bob"));
+        assertEquals(Set.of("alice", "dave"), friendGraph.connections("carol"));
+    }
+
+    @Test
+    void testConnections_whenFriendsAndBlocksInBothDirections_ReturnAll() {
+        friendGraph.onUserBlocked(new UserBlockedEvent("eve", "carol"));
+        friendGraph.load();
+        friendGraph.onUserBlocked(new UserBlockedEvent("dave", "alice"));
+
+        assertEquals(Set.of("bob", "carol", "eve", "dave"), friendGraph.connections("alice"));
+        assertEquals(Set.of("alice"), friendGraph.connections("eve"));
+        assertTrue(friendGraph.connections("unknown").isEmpty());
+
+        friendGraph.onUserUnblocked(new UserUnblockedEvent("dave", "alice"));
+        assertEquals(Set.of("bob", "carol", "eve"), friendGraph.connections("alice"));
+    }
+
+    @Test
+    void testOnFriendAdded_whenGraphNotLoaded_LeaveChangeToInitialLoad() {
+        friendGraph.onFriendAdded(new FriendAddedEvent("alice", "dave"));
+
+        assertEquals(List.of("bob", "carol"), friendGraph.mutualFriends("alice", "alice"));
+    }
+
+    @Test
+    void testReload_whenTablesChangedElsewhere_SwapInNewGraph() {
+        friendGraph.load();
+        stubFriends(friendships("alice", "dave"));
+        stubBlocked(List.of());
+
+        friendGraph.reload();
+
+        assertEquals(Set.of("dave"), friendGraph.connections("alice"));
+        assertTrue(friendGraph.connections("eve").isEmpty());
+    }
+
+    @Test
+    void testReload_whenEventArrivesWhileReading_ReplayEventOnNewGraph() {
+        friendGraph.load();
+        Mockito.when(friendRepository.streamAll()).thenAnswer(invocation -> {
+            friendGraph.onFriendAdded(new FriendAddedEvent("alice", "dave"));
+            return friendships("alice", "bob").stream();
+        });
+
+        friendGraph.reload();
+
+        assertEquals(List.of("bob", "dave"), friendGraph.mutualFriends("alice", "alice"));
+    }
+
+    @Test
+    void testReload_whenReadFails_KeepPreviousGraph() {
+        friendGraph.load();
+        Mockito.when(friendRepository.streamAll()).thenThrow(new RuntimeException("database unavailable"));
+
+        friendGraph.reload();
+
+        assertEquals(List.of("bob", "carol"), friendGraph.mutualFriends("alice", "alice"));
+        friendGraph.onFriendAdded(new FriendAddedEvent("alice", "dave"));
+        assertEquals(List.of("bob", "carol", "dave"), friendGraph.mutualFriends("alice", "alice"));
+    }
+
+    // Each load consumes the streams, so every call gets a new one.
+    private void stubFriends(List<GamerPair> friendships) {
+        Mockito.when(friendRepository.streamAll()).thenAnswer(invocation -> friendships.stream());
+    }
+
+    private void stubBlocked(List<GamerPair> blocks) {
+        Mockito.when(blockedFriendRepository.streamAll()).thenAnswer(invocation -> blocks.stream());
+    }
+
+    private static List<GamerPair> friendships(String... pairs) {
+        List<GamerPair> friends = new ArrayList<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            friends.add(new GamerPair(pairs[i], pairs[i + 1]));
+            friends.add(new GamerPair(pairs[i + 1], pairs[i]));
+        }
+        return friends;
+    }
+}
@@ -0,0 +1,70 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.interfaces.dto.GamesDto;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameSearchIndexTest {
+
+    private GameSearchIndex gameSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        gameSearchIndex = new GameSearchIndex(List.of(
+                game("1", "Counter-Strike 2", "Shooter", 8.1F),
+                game("2", "League of Legends", "MOBA", 7.9F),
+                game("3", "Legends of Runeterra", "Card", 8.4F),
+                game("4", "Apex Legends", "Shooter", 8.6F),
+                game("5", "Chess", "Strategy", null)));
+    }
+
+    @Test
+    void testSearch_whenQueryPrefixesName_RankNamePrefixFirstThenByVote() {
+        List<GamesDto> result = gameSearchIndex.search("Leg", 10);
+
+        assertEquals(List.of("3", "4", "2"), ids(result));
+    }
+
+    @Test
+    void testSearch_whenQueryHasSeveralWords_MatchAllWordsAcrossNameAndCategory() {
+        assertEquals(List.of("4"), ids(gameSearchIndex.search("legends shoot", 10)));
+        assertEquals(List.of("4", "1"), ids(gameSearchIndex.search("SHOOTER", 10)));
+        assertEquals(List.of("1"), ids(gameSearchIndex.search("counter strike", 10)));
+    }
+
+    @Test
+    void testSearch_whenQueryMisspelled_FallBackToTrigrams() {
+        List<GamesDto> result = gameSearchIndex.search("legnds", 10);
+
+        assertFalse(result.isEmpty());
+        assertTrue(ids(result).containsAll(List.of("2", "3", "4")));
+    }
+
+    @Test
+    void testSearch_whenQueryBlankOrUnmatched_ReturnEmpty() {
+        assertTrue(gameSearchIndex.search("  ", 10).isEmpty());
+        assertTrue(gameSearchIndex.search(null, 10).isEmpty());
+        assertTrue(gameSearchIndex.search("zzzzzz", 10).isEmpty());
+    }
+
+    @Test
+    void testSearch_whenLimitSmallerThanMatches_ReturnBestOnly() {
+        assertEquals(List.of("3"), ids(gameSearchIndex.search("leg", 1)));
+    }
+
+    private static List<String> ids(List<GamesDto> games) {
+        return games.stream().map(GamesDto::getGameId).toList();
+    }
+
+    private static GamesDto game(String id, String name, String category, Float avgVote) {
+        GamesDto game = new GamesDto();
+        game.setGameId(id);
+        game.setGameName(name);
+        game.setCategory(category);
+        game.setAvgVote(avgVote);
+        return game;
+    }
+}
@@ -0,0 +1,105 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.infrastructure.entity.Games;
+import com.back2261.applicationservice.infrastructure.repository.GamesRepository;
+import com.back2261.applicationservice.interfaces.response.GamesResponse;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GamesCatalogTest {
+
+    @InjectMocks
+    private GamesCatalog gamesCatalog;
+
+    @Mock
+    private GamesRepository gamesRepository;
+
+    private Games popular;
+    private Games other;
+
+    @BeforeEach
+    void setUp() {
+        popular = new Games("1", "popular", "icon", "category", 9.1F, "description", true, null);
+        other = new Games("2", "other", "icon", "category", 6.4F, "description", false, null);
+        Mockito.when(gamesRepository.findAll()).thenReturn(List.of(popular, other));
+        Mockito.when(gamesRepository.findAllByIsPopularTrueOrderByAvgVoteDesc()).thenReturn(List.of(popular));
+    }
+
+    @Test
+    void testGetGames_whenCalledRepeatedly_LoadCatalogOnce() {
+        GamesResponse games = gamesCatalog.getGames();
+        GamesResponse popularGames = gamesCatalog.getPopularGames();
+
+        assertSame(games, gamesCatalog.getGames());
+        assertEquals(2, games.getBody().getData().getGames().size());
+        assertEquals(1, popularGames.getBody().getData().getGames().size());
+        assertEquals(
+                "popular", popularGames.getBody().getData().getGames().get(0).getGameName());
+        assertEquals("100", games.getStatus().getCode());
+        Mockito.verify(gamesRepository, Mockito.times(1)).findAll();
+        Mockito.verify(gamesRepository, Mockito.times(1)).findAllByIsPopularTrueOrderByAvgVoteDesc();
+    }
+
+    @Test
+    void testRefresh_whenGamesChanged_ServeNewSnapshot() {
+        gamesCatalog.getGames();
+        Mockito.when(gamesRepository.findAll()).thenReturn(List.of(popular));
+
+        gamesCatalog.refresh();
+
+        assertEquals(1, gamesCatalog.getGames().getBody().getData().getGames().size());
+    }
+
+    @Test
+    void testRefresh_whenLoadFails_KeepServingPreviousSnapshot() {
+        GamesResponse games = gamesCatalog.getGames();
+        Mockito.when(gamesRepository.findAll()).thenThrow(new RuntimeException("db down"));
+
+        gamesCatalog.refresh();
+
+        assertSame(games, gamesCatalog.getGames());
+    }
+
+    @Test
+    void testSearchGames_whenCatalogRefreshed_SearchNewSnapshot() {
+        assertEquals(
+                1,
+                gamesCatalog
+                        .searchGames("pop", 10)
+                        .getBody()
+                        .getData()
+                        .getGames()
+                        .size());
+        Mockito.when(gamesRepository.findAll()).thenReturn(List.of(other));
+
+        gamesCatalog.refresh();
+
+        assertTrue(gamesCatalog
+                .searchGames("pop", 10)
+                .getBody()
+                .getData()
+                .getGames()
+                .isEmpty());
+        assertEquals(
+                "other",
+                gamesCatalog
+                        .searchGames("oth", 10)
+                        .getBody()
+                        .getData()
+                        .getGames()
+                        .get(0)
+                        .getGameName());
+    }
+}
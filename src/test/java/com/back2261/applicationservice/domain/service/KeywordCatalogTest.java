@@ -0,0 +1,75 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.infrastructure.entity.Keywords;
+import com.back2261.applicationservice.infrastructure.repository.KeywordsRepository;
+import com.back2261.applicationservice.interfaces.response.KeywordsResponse;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class KeywordCatalogTest {
+
+    @InjectMocks
+    private KeywordCatalog keywordCatalog;
+
+    @Mock
+    private KeywordsRepository keywordsRepository;
+
+    private Keywords fps;
+    private Keywords rpg;
+
+    @BeforeEach
+    void setUp() {
+        fps = new Keywords(UUID.fromString("71927b70-8a51-4844-a306-00313fec4f09"), "fps", new Date(), "test", null);
+        rpg = new Keywords(UUID.fromString("c0a80164-7b1f-4b9d-8d9c-6d9715d3e7d1"), "rpg", new Date(), "test", null);
+        Mockito.when(keywordsRepository.findAll()).thenReturn(List.of(rpg, fps));
+    }
+
+    @Test
+    void testSnapshot_whenCalledRepeatedly_ReturnPrebuiltResponse() {
+        CatalogSnapshot<KeywordsResponse> first = keywordCatalog.snapshot();
+        CatalogSnapshot<KeywordsResponse> second = keywordCatalog.snapshot();
+
+        assertSame(first, second);
+        assertEquals(1, first.version());
+        assertTrue(first.eTag().startsWith("\"") && first.eTag().endsWith("\""));
+        assertEquals(
+                "fps", first.response().getBody().getData().getKeywords().get(0).getKeywordName());
+        assertEquals("100", first.response().getStatus().getCode());
+        Mockito.verify(keywordsRepository, Mockito.times(1)).findAll();
+    }
+
+    @Test
+    void testRefresh_whenKeywordsUnchanged_KeepVersionAndETag() {
+        CatalogSnapshot<KeywordsResponse> first = keywordCatalog.snapshot();
+        Mockito.when(keywordsRepository.findAll()).thenReturn(List.of(fps, rpg));
+
+        keywordCatalog.refresh();
+
+        assertSame(first, keywordCatalog.snapshot());
+    }
+
+    @Test
+    void testRefresh_whenKeywordsChanged_BumpVersionAndETag() {
+        CatalogSnapshot<KeywordsResponse> first = keywordCatalog.snapshot();
+        Mockito.when(keywordsRepository.findAll()).thenReturn(List.of(fps));
+
+        keywordCatalog.refresh();
+
+        CatalogSnapshot<KeywordsResponse> second = keywordCatalog.snapshot();
+        assertEquals(2, second.version());
+        assertNotEquals(first.eTag(), second.eTag());
+        assertEquals(1, second.response().getBody().getData().getKeywords().size());
+    }
+}
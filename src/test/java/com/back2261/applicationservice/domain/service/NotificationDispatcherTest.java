@@ -0,0 +1,176 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.back2261.applicationservice.infrastructure.entity.OutboxNotification;
+import com.back2261.applicationservice.infrastructure.repository.OutboxNotificationRepository;
+import com.back2261.applicationservice.interfaces.request.SendNotificationTokenRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationDispatcherTest {
+
+    @Mock
+    private OutboxNotificationRepository outboxNotificationRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        notificationDispatcher = new NotificationDispatcher(
+                outboxNotificationRepository,
+                notificationService,
+                transactionManager,
+                2,
+                3,
+                1000,
+                3000,
+                5000,
+                10000,
+                15000);
+    }
+
+    @Test
+    void testDispatchBatch_whenDeliverySucceeds_DeleteNotification() {
+        OutboxNotification notification = getNotification("token");
+        Mockito.when(outboxNotificationRepository.findDueForUpdate(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(notification));
+
+        int dispatched = notificationDispatcher.dispatchBatch();
+
+        assertEquals(1, dispatched);
+        Mockito.verify(notificationService).sendToToken(Mockito.any(SendNotificationTokenRequest.class));
+        Mockito.verify(outboxNotificationRepository).deleteAllByIdInBatch(List.of(notification.getId()));
+    }
+
+    @Test
+    void testDispatchBatch_whenDeliveryFails_ScheduleRetryWithBackoff() {
+        OutboxNotification notification = getNotification("token");
+        Mockito.when(outboxNotificationRepository.findDueForUpdate(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(notification));
+        Mockito.when(outboxNotificationRepository.findAllById(Set.of(notification.getId())))
+                .thenReturn(List.of(notification));
+        Mockito.when(notificationService.sendToToken(Mockito.any())).thenThrow(new RuntimeException("timeout"));
+
+        notificationDispatcher.dispatchBatch();
+
+        assertEquals(1, notification.getAttempts());
+        assertEquals("timeout", notification.getLastError());
+        assertEquals(OutboxNotification.DeliveryStatus.PENDING, notification.getStatus());
+        assertTrue(notification.getNextAttemptAt().isAfter(Instant.now()));
+        assertTrue(notification.getNextAttemptAt().isBefore(Instant.now().plusSeconds(60)));
+        Mockito.verify(outboxNotificationRepository, Mockito.never()).deleteAllByIdInBatch(Mockito.any());
+    }
+
+    @Test
+    void testDispatchBatch_whenClaimed_LeaseLongEnoughToDeliverBatchAtTimeouts() {
+        OutboxNotification notification = getNotification("token");
+        Mockito.when(outboxNotificationRepository.findDueForUpdate(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(notification));
+        List<Instant> leasedUntil = new ArrayList<>();
+        Mockito.when(notificationService.sendToToken(Mockito.any())).thenAnswer(invocation -> {
+            leasedUntil.add(notification.getNextAttemptAt());
+            return null;
+        });
+
+        Instant start = Instant.now();
+        notificationDispatcher.dispatchBatch();
+
+        // Two notifications of 10s connect and 15s read timeout each, plus the 5s margin.
+        assertFalse(leasedUntil.get(0).isBefore(start.plusSeconds(55)));
+        assertTrue(leasedUntil.get(0).isBefore(Instant.now().plusSeconds(56)));
+    }
+
+    @Test
+    void testDispatchBatch_whenMaxAttemptsReached_MarkNotificationFailed() {
+        OutboxNotification notification = getNotification("token");
+        notification.setAttempts(2);
+        Mockito.when(outboxNotificationRepository.findDueForUpdate(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(notification));
+        Mockito.when(outboxNotificationRepository.findAllById(Set.of(notification.getId())))
+                .thenReturn(List.of(notification));
+        Mockito.when(notificationService.sendToToken(Mockito.any())).thenThrow(new RuntimeException("timeout"));
+
+        notificationDispatcher.dispatchBatch();
+
+        assertEquals(3, notification.getAttempts());
+        assertEquals(OutboxNotification.DeliveryStatus.FAILED, notification.getStatus());
+    }
+
+    @Test
+    void testBackoff_whenAttemptsGrow_DoubleUntilMaxBackoff() {
+        assertEquals(Duration.ofMillis(1000), notificationDispatcher.backoff(1));
+        assertEquals(Duration.ofMillis(2000), notificationDispatcher.backoff(2));
+        assertEquals(Duration.ofMillis(3000), notificationDispatcher.backoff(3));
+        assertEquals(Duration.ofMillis(3000), notificationDispatcher.backoff(40));
+    }
+
+    @Test
+    void testDispatchPending_whenBatchIsFull_DispatchNextBatch() {
+        Mockito.when(outboxNotificationRepository.findDueForUpdate(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(getNotification("a"), getNotification("b")))
+                .thenReturn(List.of(getNotification("c")));
+
+        notificationDispatcher.dispatchPending();
+
+        Mockito.verify(notificationService, Mockito.times(3)).sendToToken(Mockito.any());
+    }
+
+    @Test
+    void testDispatchBatch_whenDeliveryExecutorSet_DeliverConcurrentlyAndRetryFailures() {
+        OutboxNotification delivered = getNotification("token");
+        OutboxNotification failed = getNotification("broken");
+        Mockito.when(outboxNotificationRepository.findDueForUpdate(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(delivered, failed));
+        Mockito.when(outboxNotificationRepository.findAllById(Set.of(failed.getId())))
+                .thenReturn(List.of(failed));
+        Mockito.when(notificationService.sendToToken(Mockito.argThat(request -> "broken".equals(request.getToken()))))
+                .thenThrow(new RuntimeException("unavailable"));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        notificationDispatcher.setDeliveryExecutor(executor);
+
+        try {
+            assertEquals(2, notificationDispatcher.dispatchBatch());
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, delivered.getAttempts());
+        assertEquals(1, failed.getAttempts());
+        assertEquals("unavailable", failed.getLastError());
+        Mockito.verify(notificationService, Mockito.times(2)).sendToToken(Mockito.any());
+        Mockito.verify(outboxNotificationRepository).deleteAllByIdInBatch(List.of(delivered.getId()));
+    }
+
+    private OutboxNotification getNotification(String token) {
+        OutboxNotification notification = new OutboxNotification();
+        notification.setId(UUID.randomUUID());
+        notification.setToken(token);
+        notification.setTitle("title");
+        notification.setBody("body");
+        notification.setStatus(OutboxNotification.DeliveryStatus.PENDING);
+        notification.setNextAttemptAt(Instant.now());
+        notification.setCreatedDate(Instant.now());
+        return notification;
+    }
+}
@@ -0,0 +1,169 @@
+package com.back2261.applicationservice.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class SectionLoaderTest {
+
+    private final EntityManagerFactory entityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+    private SectionLoader sectionLoader;
+
+    @BeforeEach
+    void setUp() {
+        sectionLoader = new SectionLoader(entityManagerFactory, 4, 16, 200, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sectionLoader.shutdown();
+    }
+
+    @Test
+    void testBatch_whenSectionsBlockEachOther_LoadThemConcurrently() {
+        CountDownLatch started = new CountDownLatch(2);
+        SectionLoader.Batch batch = sectionLoader.batch();
+
+        SectionLoader.Section<String> first = batch.submit("first", () -> awaitOther(started, "a"));
+        SectionLoader.Section<String> second = batch.submit("second", () -> awaitOther(started, "b"));
+
+        assertEquals(List.of("a"), first.get());
+        assertEquals(List.of("b"), second.get());
+        assertTrue(batch.incomplete().isEmpty());
+    }
+
+    @Test
+    void testBatch_whenSectionTimesOut_ReturnEmptyAndFlagSection() {
+        SectionLoader.Batch batch = sectionLoader.batch();
+
+        SectionLoader.Section<String> slow = batch.submit("slow", () -> {
+            sleep(2000);
+            return List.of("late");
+        });
+        SectionLoader.Section<String> fast = batch.submit("fast", () -> List.of("fast"));
+
+        long start = System.nanoTime();
+        assertTrue(slow.get().isEmpty());
+        assertEquals(List.of("fast"), fast.get());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(List.of("slow"), batch.incomplete());
+    }
+
+    @Test
+    void testBatch_whenSectionFails_ReturnEmptyAndFlagSection() {
+        SectionLoader.Batch batch = sectionLoader.batch();
+
+        SectionLoader.Section<String> broken = batch.submit("broken", () -> {
+            throw new IllegalStateException("db down");
+        });
+
+        assertTrue(broken.get().isEmpty());
+        assertEquals(List.of("broken"), batch.incomplete());
+    }
+
+    @Test
+    void testBatch_whenSectionTimesOut_InterruptSection() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        SectionLoader.Batch batch = sectionLoader.batch();
+
+        SectionLoader.Section<String> slow = batch.submit("slow", () -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return List.of("late");
+        });
+
+        assertTrue(slow.get().isEmpty());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBatch_whenSectionRuns_BindEntityManagerWithRemainingTimeAsTimeout() {
+        SectionLoader.Batch batch = sectionLoader.batch();
+
+        SectionLoader.Section<Long> timeToLive = batch.submit("timeout", () -> {
+            EntityManagerHolder holder =
+                    (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            return List.of(holder.getTimeToLiveInMillis());
+        });
+
+        long millis = timeToLive.get().get(0);
+        // The 200ms left are rounded up to the second a JDBC timeout can express.
+        assertTrue(millis > 200 && millis <= 1000);
+        assertNull(TransactionSynchronizationManager.getResource(entityManagerFactory));
+    }
+
+    @Test
+    void testBatch_whenPoolSaturated_FlagSectionWithoutLoadingItOnCaller() {
+        sectionLoader.shutdown();
+        sectionLoader = new SectionLoader(entityManagerFactory, 1, 1, 200, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean rejectedRan = new AtomicBoolean();
+        SectionLoader.Batch batch = sectionLoader.batch();
+
+        SectionLoader.Section<String> running = batch.submit("running", () -> {
+            await(release);
+            return List.of("running");
+        });
+        SectionLoader.Section<String> queued = batch.submit("queued", () -> List.of("queued"));
+        SectionLoader.Section<String> rejected = batch.submit("rejected", () -> {
+            rejectedRan.set(true);
+            return List.of("rejected");
+        });
+
+        assertTrue(rejected.get().isEmpty());
+        assertFalse(rejectedRan.get());
+        release.countDown();
+        assertEquals(List.of("running"), running.get());
+        assertEquals(List.of("queued"), queued.get());
+        assertEquals(List.of("rejected"), batch.incomplete());
+    }
+
+    @Test
+    void testSectionLoader_whenPoolLargerThanConnectionPool_LimitToHalfTheConnections() {
+        SectionLoader limited = new SectionLoader(entityManagerFactory, 16, 16, 200, 10);
+        try {
+            assertEquals(5, limited.poolSize());
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<String> awaitOther(CountDownLatch started, String value) {
+        started.countDown();
+        try {
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return List.of(value);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}